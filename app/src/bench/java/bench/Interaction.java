@@ -0,0 +1,21 @@
+package bench;
+
+/**
+ * Tipos de interacción que el guion del banco de pruebas le envía a la vista.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public enum Interaction {
+    /** Clic del ratón sobre una celda editable */
+    SELECT,
+    /** Tecla numérica sobre la celda seleccionada (válida o no) */
+    TYPE,
+    /** Tecla de borrado sobre la celda seleccionada */
+    DELETE,
+    /** Botón de ayuda */
+    HINT,
+    /** Botón de nuevo juego (la confirmación se acepta sola) */
+    NEW_GAME
+}
@@ -0,0 +1,178 @@
+package bench;
+
+import model.metrics.LatencyHistogram;
+import model.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resultados del banco de pruebas de la vista: latencia desde el evento hasta
+ * el final del pulso y bytes asignados por cada tipo de interacción.
+ * Se guarda como CSV para poder compararlo con el de una ejecución anterior.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class LatencyReport {
+
+    /** Encabezado del archivo CSV */
+    private static final String HEADER = "interaccion,cantidad,p50_us,p90_us,p99_us,max_us,bytes_promedio";
+
+    /** Registro propio, activo aunque las métricas globales estén apagadas */
+    private final MetricsRegistry registry = new MetricsRegistry(true);
+
+    /** Latencias por tipo de interacción, en nanosegundos */
+    private final Map<Interaction, LatencyHistogram> latencies = new EnumMap<>(Interaction.class);
+
+    /** Bytes asignados por tipo de interacción */
+    private final Map<Interaction, long[]> allocations = new EnumMap<>(Interaction.class);
+
+    /**
+     * Constructor que prepara un reporte vacío.
+     */
+    public LatencyReport() {
+        for (Interaction interaction : Interaction.values()) {
+            latencies.put(interaction, registry.histogram("ui." + interaction.name().toLowerCase(Locale.ROOT)));
+            allocations.put(interaction, new long[1]);
+        }
+    }
+
+    /**
+     * Registra una interacción medida.
+     *
+     * @param interaction Tipo de interacción
+     * @param nanos Nanosegundos desde el evento hasta el final del pulso
+     * @param bytes Bytes asignados en el hilo de JavaFX durante ese tiempo
+     */
+    public void record(Interaction interaction, long nanos, long bytes) {
+        latencies.get(interaction).record(nanos);
+        allocations.get(interaction)[0] += bytes;
+    }
+
+    /**
+     * Convierte el reporte en filas, una por tipo de interacción con datos.
+     *
+     * @return Filas con las columnas del CSV
+     */
+    public Map<String, double[]> rows() {
+        Map<String, double[]> rows = new LinkedHashMap<>();
+        for (Interaction interaction : Interaction.values()) {
+            LatencyHistogram histogram = latencies.get(interaction);
+            long count = histogram.getCount();
+            if (count == 0) {
+                continue;
+            }
+            rows.put(interaction.name(), new double[]{
+                    count,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMax() / 1000.0,
+                    (double) allocations.get(interaction)[0] / count
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * Escribe el reporte como CSV.
+     *
+     * @param file Archivo de salida
+     * @throws IOException Si el archivo no se puede escribir
+     */
+    public void write(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (Map.Entry<String, double[]> row : rows().entrySet()) {
+            double[] v = row.getValue();
+            lines.add(String.format(Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f,%.0f",
+                    row.getKey(), (long) v[0], v[1], v[2], v[3], v[4], v[5]));
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lee un reporte guardado con {@link #write(Path)}.
+     *
+     * @param file Archivo CSV
+     * @return Filas con las columnas del CSV
+     * @throws IOException Si el archivo no se puede leer
+     */
+    public static Map<String, double[]> read(Path file) throws IOException {
+        Map<String, double[]> rows = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.equals(HEADER)) {
+                continue;
+            }
+            String[] parts = line.split(",");
+            double[] values = new double[parts.length - 1];
+            for (int i = 1; i < parts.length; i++) {
+                values[i - 1] = Double.parseDouble(parts[i]);
+            }
+            rows.put(parts[0], values);
+        }
+        return rows;
+    }
+
+    /**
+     * Imprime la tabla del reporte.
+     *
+     * @param out Salida
+     */
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%-10s %8s %10s %10s %10s %10s %12s%n",
+                "", "n", "p50 us", "p90 us", "p99 us", "max us", "bytes/int");
+        for (Map.Entry<String, double[]> row : rows().entrySet()) {
+            double[] v = row.getValue();
+            out.printf(Locale.ROOT, "%-10s %8d %10.1f %10.1f %10.1f %10.1f %12.0f%n",
+                    row.getKey(), (long) v[0], v[1], v[2], v[3], v[4], v[5]);
+        }
+    }
+
+    /**
+     * Compara con un reporte anterior e imprime la diferencia de p50, p90 y bytes.
+     *
+     * @param baseline Filas del reporte anterior
+     * @param threshold Aumento relativo a partir del cual se marca una regresión (0.10 = 10 %)
+     * @param out Salida
+     * @return true si alguna interacción empeoró más que el umbral
+     */
+    public boolean compare(Map<String, double[]> baseline, double threshold, PrintStream out) {
+        boolean regression = false;
+        out.printf(Locale.ROOT, "%-10s %16s %16s %18s%n", "", "p50 us", "p90 us", "bytes/int");
+        for (Map.Entry<String, double[]> row : rows().entrySet()) {
+            double[] before = baseline.get(row.getKey());
+            if (before == null) {
+                continue;
+            }
+            double[] now = row.getValue();
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-10s", row.getKey()));
+            boolean worse = false;
+            for (int column : new int[]{1, 2, 5}) {
+                double change = before[column] == 0 ? 0 : (now[column] - before[column]) / before[column];
+                line.append(String.format(Locale.ROOT, " %9.1f (%+5.0f%%)", now[column], change * 100));
+                // El p50 varía con el reloj de pulsos; las regresiones se juzgan por p90 y bytes
+                if (column != 1 && change > threshold) {
+                    worse = true;
+                }
+            }
+            if (worse) {
+                line.append("  REGRESIÓN");
+                regression = true;
+            }
+            out.println(line);
+        }
+        return regression;
+    }
+}
@@ -0,0 +1,322 @@
+package bench;
+
+import controller.SudokuController;
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.event.EventTarget;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.stage.Stage;
+import model.SudokuBoard;
+import model.generator.Difficulty;
+import model.generator.DifficultyGenerator;
+import view.SudokuCell;
+import view.SudokuView;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Banco de pruebas de la latencia entre una interacción y el cuadro que la muestra.
+ * Arranca la vista y el controlador reales sobre Monocle sin pantalla y les envía
+ * un guion de clics y teclas (seleccionar, escribir, borrar, ayuda, nuevo juego) a
+ * un ritmo fijo. Cada interacción se mide desde que se despacha el evento en el
+ * hilo de JavaFX hasta el final del siguiente pulso (después de CSS y layout),
+ * junto con los bytes que asignó ese hilo en el mismo intervalo.
+ * El guion depende solo de la semilla, así dos ejecuciones se pueden comparar.
+ *
+ * <p>Argumentos: {@code --steps N --warmup N --rate interacciones/s --seed S
+ * --out reporte.csv --baseline anterior.csv --threshold 0.10}.</p>
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class UiLatencyBenchmark {
+
+    /** Tiempo máximo de espera por el pulso de una interacción */
+    private static final long PULSE_TIMEOUT_SECONDS = 5;
+
+    /** Cada cuántas jugadas se pide un juego nuevo */
+    private static final int NEW_GAME_EVERY = 50;
+
+    /** Bytes asignados por hilo */
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** Resultados de la ejecución */
+    private final LatencyReport report = new LatencyReport();
+
+    /** Elige las celdas del guion; solo se usa en el hilo de JavaFX */
+    private final Random targets;
+
+    /** Vista bajo prueba */
+    private SudokuView view;
+
+    /** Interacción que espera su pulso, o null; solo se usa en el hilo de JavaFX */
+    private Interaction pending;
+
+    /** Indica si la interacción pendiente cuenta para el reporte */
+    private boolean recording;
+
+    /** Se libera cuando termina el pulso de la interacción pendiente */
+    private CountDownLatch pendingDone;
+
+    /** Instante en que se despachó la interacción pendiente */
+    private long eventStart;
+
+    /** Bytes asignados por el hilo de JavaFX antes de despachar la interacción pendiente */
+    private long allocationStart;
+
+    /**
+     * Constructor que prepara el banco de pruebas.
+     *
+     * @param seed Semilla del guion y del tablero inicial
+     */
+    private UiLatencyBenchmark(long seed) {
+        this.targets = new Random(seed);
+    }
+
+    /**
+     * Crea el modelo, la vista y el controlador en el hilo de JavaFX y muestra la ventana.
+     *
+     * @param seed Semilla del tablero inicial
+     */
+    private void show(long seed) {
+        SudokuBoard model = new SudokuBoard();
+        model.loadPuzzle(new DifficultyGenerator(model.getCompiledRules())
+                .generateOne(Difficulty.MEDIUM, new Random(seed)));
+
+        view = new SudokuView();
+        view.setAlertsSuppressed(true);
+        // Sin historial: las mediciones no deben escribir en el del usuario
+        new SudokuController(model, view, null);
+        view.updateBoard(model);
+
+        Scene scene = new Scene(view.getRoot(), 500, 600);
+        scene.addPostLayoutPulseListener(this::onPulse);
+
+        Stage stage = new Stage();
+        stage.setScene(scene);
+        stage.show();
+    }
+
+    /**
+     * Crea el guion de interacciones: cada jugada selecciona una celda y luego
+     * escribe, borra o pide ayuda; cada cierto número de jugadas empieza un juego nuevo.
+     *
+     * @param count Número de interacciones
+     * @param random Generador del guion
+     * @return Interacciones en orden
+     */
+    static List<Interaction> script(int count, Random random) {
+        List<Interaction> script = new ArrayList<>(count);
+        int moves = 0;
+        while (script.size() < count) {
+            if (++moves % NEW_GAME_EVERY == 0) {
+                script.add(Interaction.NEW_GAME);
+                continue;
+            }
+            script.add(Interaction.SELECT);
+            int roll = random.nextInt(10);
+            script.add(roll < 7 ? Interaction.TYPE : roll < 9 ? Interaction.DELETE : Interaction.HINT);
+        }
+        return script.subList(0, count);
+    }
+
+    /**
+     * Ejecuta el guion al ritmo pedido. Cada interacción espera a que termine
+     * el pulso de la anterior, así la cola de eventos nunca se acumula.
+     *
+     * @param script Interacciones en orden
+     * @param warmup Interacciones iniciales que no cuentan para el reporte
+     * @param rate Interacciones por segundo
+     * @throws InterruptedException Si se interrumpe la espera
+     */
+    private void run(List<Interaction> script, int warmup, double rate) throws InterruptedException {
+        long interval = (long) (1_000_000_000L / rate);
+        long next = System.nanoTime();
+        for (int i = 0; i < script.size(); i++) {
+            next += interval;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Interaction interaction = script.get(i);
+            boolean record = i >= warmup;
+            CountDownLatch done = new CountDownLatch(1);
+            Platform.runLater(() -> dispatch(interaction, record, done));
+            if (!done.await(PULSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("No llegó el pulso de la interacción " + i + " (" + interaction + ")");
+            }
+        }
+    }
+
+    /**
+     * Despacha una interacción en el hilo de JavaFX y pide un pulso.
+     *
+     * @param interaction Interacción
+     * @param record true si cuenta para el reporte
+     * @param done Se libera al terminar el pulso
+     */
+    private void dispatch(Interaction interaction, boolean record, CountDownLatch done) {
+        pending = interaction;
+        recording = record;
+        pendingDone = done;
+        allocationStart = threads.getCurrentThreadAllocatedBytes();
+        eventStart = System.nanoTime();
+
+        switch (interaction) {
+            case SELECT -> click(randomEditableCell());
+            case TYPE -> {
+                int digit = targets.nextInt(SudokuBoard.BOARD_SIZE) + 1;
+                press(KeyCode.valueOf("DIGIT" + digit), String.valueOf(digit));
+            }
+            case DELETE -> press(KeyCode.BACK_SPACE, "");
+            case HINT -> view.getHintButton().fire();
+            case NEW_GAME -> view.getNewGameButton().fire();
+        }
+
+        // Asegura un pulso aunque la interacción no haya cambiado nada en pantalla
+        Platform.requestNextPulse();
+    }
+
+    /**
+     * Se llama al final de cada pulso, después de CSS y layout.
+     */
+    private void onPulse() {
+        if (pending == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - eventStart;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - allocationStart;
+        if (recording) {
+            report.record(pending, nanos, bytes);
+        }
+        pending = null;
+        pendingDone.countDown();
+    }
+
+    /**
+     * Simula un clic del ratón sobre una celda.
+     *
+     * @param cell Celda
+     */
+    private void click(SudokuCell cell) {
+        double x = cell.getWidth() / 2;
+        double y = cell.getHeight() / 2;
+        Event.fireEvent(cell, new MouseEvent(MouseEvent.MOUSE_CLICKED, x, y, x, y, MouseButton.PRIMARY, 1,
+                false, false, false, false, false, false, false, false, false, true, null));
+    }
+
+    /**
+     * Simula una tecla presionada sobre la celda seleccionada.
+     *
+     * @param code Código de la tecla
+     * @param text Texto de la tecla
+     */
+    private void press(KeyCode code, String text) {
+        SudokuCell selected = view.getSelectedCell();
+        EventTarget target = selected != null ? selected : view.getRoot();
+        Event.fireEvent(target, new KeyEvent(KeyEvent.KEY_PRESSED, text, text, code, false, false, false, false));
+    }
+
+    /**
+     * Elige una celda editable al azar, o cualquiera si no hay editables.
+     *
+     * @return Celda elegida
+     */
+    private SudokuCell randomEditableCell() {
+        List<SudokuCell> editable = new ArrayList<>();
+        for (int row = 0; row < SudokuBoard.BOARD_SIZE; row++) {
+            for (int col = 0; col < SudokuBoard.BOARD_SIZE; col++) {
+                if (view.getCell(row, col).isEditable()) {
+                    editable.add(view.getCell(row, col));
+                }
+            }
+        }
+        if (editable.isEmpty()) {
+            return view.getCell(targets.nextInt(SudokuBoard.BOARD_SIZE), targets.nextInt(SudokuBoard.BOARD_SIZE));
+        }
+        return editable.get(targets.nextInt(editable.size()));
+    }
+
+    /**
+     * Ejecuta el banco de pruebas.
+     *
+     * @param args Argumentos de la línea de comandos
+     * @throws Exception Si la ejecución falla
+     */
+    public static void main(String[] args) throws Exception {
+        int steps = 2000;
+        int warmup = 300;
+        double rate = 20;
+        long seed = 42;
+        Path out = Path.of("ui-latency.csv");
+        Path baseline = null;
+        double threshold = 0.10;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--steps" -> steps = Integer.parseInt(args[i + 1]);
+                case "--warmup" -> warmup = Integer.parseInt(args[i + 1]);
+                case "--rate" -> rate = Double.parseDouble(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--out" -> out = Path.of(args[i + 1]);
+                case "--baseline" -> baseline = Path.of(args[i + 1]);
+                case "--threshold" -> threshold = Double.parseDouble(args[i + 1]);
+                default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+
+        // Monocle sin pantalla, a menos que se pida otra plataforma
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+
+        UiLatencyBenchmark benchmark = new UiLatencyBenchmark(seed);
+        CountDownLatch shown = new CountDownLatch(1);
+        long initialSeed = seed;
+        Platform.startup(() -> {
+            benchmark.show(initialSeed);
+            shown.countDown();
+        });
+        shown.await();
+
+        benchmark.run(script(warmup + steps, new Random(seed)), warmup, rate);
+        Platform.exit();
+
+        benchmark.report.print(System.out);
+        benchmark.report.write(out);
+        System.out.println("Reporte: " + out.toAbsolutePath());
+
+        boolean regression = false;
+        if (baseline != null) {
+            System.out.println();
+            System.out.println("Comparación con " + baseline + ":");
+            regression = benchmark.report.compare(LatencyReport.read(baseline), threshold, System.out);
+        }
+        System.exit(regression ? 1 : 0);
+    }
+
+    /**
+     * Fija una propiedad de sistema solo si no se pasó en la línea de comandos.
+     *
+     * @param property Nombre de la propiedad
+     * @param value Valor por defecto
+     */
+    private static void setDefault(String property, String value) {
+        if (System.getProperty(property) == null) {
+            System.setProperty(property, value);
+        }
+    }
+}
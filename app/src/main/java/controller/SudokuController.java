@@ -0,0 +1,577 @@
+package controller;
+
+
+import model.SudokuBoard;
+import model.generator.Difficulty;
+import model.io.PuzzleReader;
+import model.metrics.KeyHandlingEvent;
+import model.metrics.LatencyHistogram;
+import model.metrics.MetricsRegistry;
+import model.stats.GameHistoryStore;
+import model.stats.GameRecord;
+import model.stats.GameStatistics;
+import view.SolverPlayback;
+import view.SudokuCell;
+import view.SudokuView;
+import javafx.application.Platform;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Controlador que maneja la lógica de interacción entre el modelo y la vista.
+ * Esta clase implementa MVC conectando el modelo (SudokuBoard) con la vista (SudokuView).
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class SudokuController {
+
+
+    /** Modelo del tablero de Sudoku */
+    private SudokuBoard model;
+
+
+    /** Vista del juego Sudoku */
+    private SudokuView view;
+
+
+    /** Contador de ayudas utilizadas */
+    private int hintsUsed;
+
+
+    /** Reproducción del resolvedor ("ver resolver") */
+    private final SolverPlayback playback;
+
+
+    /**
+     * Historial de juegos terminados, o null si no se pudo abrir. Después del
+     * constructor solo se usa desde el hilo que guarda los juegos.
+     */
+    private GameHistoryStore history;
+
+
+    /** Guarda los juegos en el historial fuera del hilo de JavaFX, uno detrás de otro */
+    private final ExecutorService historyWriter = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "sudoku-history");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+
+    /** Genera los juegos nuevos fuera del hilo de JavaFX */
+    private final ExecutorService generator = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "sudoku-generator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+
+    /** Número del último tablero pedido; un juego generado para un pedido anterior se descarta */
+    private int boardRequest;
+
+
+    /** Nombre del jugador en el historial */
+    private final String player = System.getProperty("user.name", "jugador");
+
+
+    /** Instante en que empezó el juego actual, en nanosegundos */
+    private long gameStart;
+
+
+    /** Números rechazados por las reglas en el juego actual */
+    private int mistakes;
+
+
+    /** Indica si el juego actual ya se guardó o ya no cuenta (se vio resolver) */
+    private boolean gameRecorded;
+
+
+    /** Banda de dificultad de los juegos nuevos */
+    public static final Difficulty NEW_GAME_DIFFICULTY = Difficulty.MEDIUM;
+
+
+    /** Número máximo de ayudas permitidas */
+    private static final int MAX_HINTS = 3;
+
+
+    /** Combinación de teclas para pegar un tablero (Ctrl+V o Cmd+V) */
+    private static final KeyCombination PASTE = new KeyCodeCombination(KeyCode.V, KeyCombination.SHORTCUT_DOWN);
+
+
+    /** Latencia del manejo de teclas */
+    private static final LatencyHistogram KEY_LATENCY = MetricsRegistry.global().histogram("controller.key");
+
+
+    /**
+     * Constructor que inicializa el controlador con el modelo y la vista.
+     * El historial se abre en el hilo que guarda los juegos, para no demorar
+     * la primera ventana mientras se leen los juegos anteriores.
+     *
+     * @param model Modelo del tablero de Sudoku
+     * @param view Vista del juego Sudoku
+     */
+    public SudokuController(SudokuBoard model, SudokuView view) {
+        this(model, view, null);
+        historyWriter.execute(() -> history = openHistory());
+    }
+
+
+    /**
+     * Constructor que usa un historial ya abierto.
+     *
+     * @param model Modelo del tablero de Sudoku
+     * @param view Vista del juego Sudoku
+     * @param history Historial de juegos terminados, o null para no guardar
+     */
+    public SudokuController(SudokuBoard model, SudokuView view, GameHistoryStore history) {
+        this.model = model;
+        this.view = view;
+        this.hintsUsed = 0;
+        this.playback = new SolverPlayback(view);
+        this.history = history;
+        resetGameTracking();
+
+
+        // Aqui Configuro los eventos
+        setupEventHandlers();
+    }
+
+
+    /**
+     * Abre el historial del usuario. Si no se puede, el juego sigue sin guardar estadísticas.
+     *
+     * @return Historial abierto, o null
+     */
+    public static GameHistoryStore openHistory() {
+        try {
+            return GameHistoryStore.openDefault();
+        } catch (UncheckedIOException e) {
+            return null;
+        }
+    }
+
+
+    /**
+     * Detiene la reproducción, espera a que se guarden los juegos pendientes y cierra el historial.
+     * Se llama al cerrar la aplicación.
+     */
+    public void close() {
+        playback.stop();
+        generator.shutdownNow();
+        historyWriter.shutdown();
+        try {
+            historyWriter.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (history != null) {
+            try {
+                history.close();
+            } catch (UncheckedIOException e) {
+                // Los juegos ya están en el disco; solo falló cerrar el archivo
+            }
+        }
+    }
+
+
+    /**
+     * Empieza a contar el tiempo, los errores y las ayudas de un juego nuevo.
+     */
+    private void resetGameTracking() {
+        hintsUsed = 0;
+        mistakes = 0;
+        gameRecorded = false;
+        gameStart = System.nanoTime();
+    }
+
+
+    /**
+     * Configuro los manejadores de eventos para la interfaz.
+     */
+    private void setupEventHandlers() {
+        // Evento para el botón Nuevo Juego
+        view.getNewGameButton().setOnAction(event -> startNewGame());
+
+
+        // Evento para el botón Ayuda
+        view.getHintButton().setOnAction(event -> provideHint());
+
+
+        // Evento para el botón Ver resolver y la velocidad de la reproducción
+        view.getSolveButton().setOnAction(event -> watchSolve());
+        view.getSpeedSlider().valueProperty().addListener(
+                (observable, oldValue, newValue) -> playback.setStepsPerSecond(view.getStepsPerSecond()));
+
+
+        // Evento de teclado para toda la aplicación
+        view.getRoot().addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPress);
+    }
+
+
+    /**
+     * Inicio un nuevo juego. Generar un juego con solución única puede tardar,
+     * así que se genera en segundo plano con los botones deshabilitados y el
+     * tablero se cambia en el hilo de JavaFX cuando está listo.
+     */
+    private void startNewGame() {
+        boolean confirmed = view.showConfirmation("Nuevo Juego",
+                "¿Estás seguro de que deseas iniciar un nuevo juego?");
+
+
+        if (confirmed) {
+            playback.stop();
+            int request = ++boardRequest;
+            setGameButtonsDisabled(true);
+            view.updateStatus("Generando un juego nuevo...");
+
+            generator.execute(() -> {
+                try {
+                    int[] puzzle = model.generatePuzzle(NEW_GAME_DIFFICULTY);
+                    Platform.runLater(() -> applyNewGame(request, puzzle));
+                } catch (RuntimeException e) {
+                    Platform.runLater(() -> {
+                        if (request == boardRequest) {
+                            setGameButtonsDisabled(false);
+                            view.showError("Error", "No se pudo generar el juego: " + e.getMessage());
+                        }
+                    });
+                }
+            });
+        }
+    }
+
+
+    /**
+     * Carga en el tablero un juego generado en segundo plano, si todavía es el último pedido.
+     *
+     * @param request Número del pedido que generó el juego
+     * @param puzzle Números iniciales del juego
+     */
+    private void applyNewGame(int request, int[] puzzle) {
+        if (request != boardRequest) {
+            return;
+        }
+        setGameButtonsDisabled(false);
+        model.loadPuzzle(puzzle, NEW_GAME_DIFFICULTY);
+        view.updateBoard(model);
+        resetGameTracking();
+        view.updateStatus("Nuevo juego iniciado. ¡Buena suerte!");
+    }
+
+
+    /**
+     * Deshabilita o habilita los botones mientras se genera un juego.
+     *
+     * @param disabled true para deshabilitarlos
+     */
+    private void setGameButtonsDisabled(boolean disabled) {
+        view.getNewGameButton().setDisable(disabled);
+        view.getHintButton().setDisable(disabled);
+        view.getSolveButton().setDisable(disabled);
+    }
+
+
+    /**
+     * Resuelve el tablero desde los números iniciales mostrando cada paso.
+     * Al terminar, la solución se coloca en el modelo.
+     */
+    private void watchSolve() {
+        if (playback.isRunning()) {
+            playback.stop();
+            view.updateStatus("Reproducción detenida.");
+            return;
+        }
+
+        // Un juego resuelto por el programa no cuenta para las estadísticas
+        gameRecorded = true;
+
+        // Partir solo de los números iniciales
+        int size = model.getSize();
+        int[] clues = model.snapshot().copyClues();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                model.placeNumber(row, col, 0);
+            }
+        }
+        view.updateBoard(model);
+
+        playback.setStepsPerSecond(view.getStepsPerSecond());
+        playback.start(model.getCompiledRules(), clues, solution -> {
+            if (solution == null) {
+                view.showInfo("Sin Solución", "Este tablero no tiene solución.");
+                view.updateStatus("El tablero no tiene solución.");
+                return;
+            }
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    model.placeNumber(row, col, solution[row * size + col]);
+                }
+            }
+            view.updateBoard(model);
+            view.updateStatus("Tablero resuelto.");
+        });
+    }
+
+
+    /**
+     * Proporciona una sugerencia para una celda vacía.
+     */
+    private void provideHint() {
+        if (hintsUsed >= MAX_HINTS) {
+            view.showInfo("Límite de Ayudas",
+                    "Has alcanzado el límite de ayudas (" + MAX_HINTS + ") para este juego.");
+            return;
+        }
+
+
+        SudokuCell selectedCell = view.getSelectedCell();
+        if (selectedCell == null) {
+            view.showInfo("Selecciona una Celda",
+                    "Por favor, selecciona una celda vacía para recibir una sugerencia.");
+            return;
+        }
+
+
+        int row = selectedCell.getRow();
+        int col = selectedCell.getCol();
+
+
+        if (!model.isCellEditable(row, col)) {
+            view.showInfo("Celda No Editable",
+                    "Esta celda es parte del tablero inicial y no se puede modificar.");
+            return;
+        }
+
+
+        if (selectedCell.getValue() != 0) {
+            view.showInfo("Celda Ocupada",
+                    "Por favor, selecciona una celda vacía para recibir una sugerencia.");
+            return;
+        }
+
+
+        int hint = model.getHint(row, col);
+        if (hint > 0) {
+            view.highlightHint(row, col, hint);
+            hintsUsed++;
+            view.updateStatus("Ayuda utilizada (" + hintsUsed + "/" + MAX_HINTS + ")");
+        } else {
+            view.showInfo("No hay Sugerencia",
+                    "No se puede encontrar una sugerencia válida para esta celda.");
+        }
+    }
+
+
+    /**
+     * Maneja los eventos de teclado para ingresar números en las celdas.
+     *
+     * @param event Evento de teclado
+     */
+    private void handleKeyPress(KeyEvent event) {
+        KeyHandlingEvent jfrEvent = new KeyHandlingEvent();
+        jfrEvent.begin();
+        long start = MetricsRegistry.global().startTimer();
+
+        boolean accepted = processKey(event);
+
+        KEY_LATENCY.recordSince(start);
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.key = event.getCode().getName();
+            jfrEvent.accepted = accepted;
+            jfrEvent.commit();
+        }
+    }
+
+
+    /**
+     * Procesa una tecla: coloca un número o borra la celda seleccionada.
+     *
+     * @param event Evento de teclado
+     * @return true si la tecla modificó el tablero, false en caso contrario
+     */
+    private boolean processKey(KeyEvent event) {
+        // Pegar un tablero completo no necesita una celda seleccionada
+        if (PASTE.match(event)) {
+            event.consume();
+            return pastePuzzle();
+        }
+
+        SudokuCell selectedCell = view.getSelectedCell();
+        if (selectedCell == null || !selectedCell.isEditable() || playback.isRunning()) {
+            return false;
+        }
+
+
+        int row = selectedCell.getRow();
+        int col = selectedCell.getCol();
+
+
+        // Teclas numéricas 1-6
+        if (event.getCode().isDigitKey()) {
+            boolean success = false;
+            String digit = event.getText();
+            try {
+                int num = Integer.parseInt(digit);
+                if (num >= 1 && num <= SudokuBoard.BOARD_SIZE) {
+                    success = model.placeNumber(row, col, num);
+                    view.updateCell(row, col, num, success);
+
+
+                    if (!success) {
+                        mistakes++;
+                        view.showError("Número Inválido",
+                                "El número " + num + " no puede colocarse aquí según las reglas del Sudoku.");
+                    } else {
+                        checkGameCompletion();
+                    }
+                }
+            } catch (NumberFormatException e) {
+                // No es un número válido
+            }
+            event.consume();
+            return success;
+        }
+        // Tecla de borrado
+        else if (event.getCode() == KeyCode.DELETE || event.getCode() == KeyCode.BACK_SPACE) {
+            model.placeNumber(row, col, 0);
+            view.updateCell(row, col, 0, true);
+            event.consume();
+            return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Carga el tablero del portapapeles, en una línea (81 o 36 caracteres con
+     * '.' o '0' en las celdas vacías) o como cuadrícula. Solo se acepta si el
+     * portafolio de resolvedores le encuentra solución. La vista se actualiza
+     * una sola vez con todo el tablero.
+     *
+     * @return true si se cargó el tablero, false en caso contrario
+     */
+    private boolean pastePuzzle() {
+        String text = Clipboard.getSystemClipboard().getString();
+        int[] clues = null;
+        if (text != null) {
+            try {
+                clues = new PuzzleReader(model.getSize())
+                        .readOne(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)));
+            } catch (IllegalArgumentException e) {
+                // El texto no es un tablero válido
+            }
+        }
+
+        // Un tablero que cumple las reglas pero no tiene solución tampoco se puede jugar
+        if (clues == null || !model.isSolvable(clues) || !model.loadPuzzle(clues)) {
+            view.showError("Tablero Inválido",
+                    "El portapapeles no contiene un tablero válido y con solución de "
+                            + model.getSize() + "x" + model.getSize() + ".");
+            return false;
+        }
+
+        // Un juego que se estaba generando ya no reemplaza al tablero pegado
+        boardRequest++;
+        setGameButtonsDisabled(false);
+        playback.stop();
+        resetGameTracking();
+        view.updateBoard(model);
+        view.updateStatus("Tablero pegado desde el portapapeles. ¡Buena suerte!");
+        return true;
+    }
+
+
+    /**
+     * Verifica si el juego ha sido completado correctamente.
+     * El juego se guarda en el historial en segundo plano, porque guardar espera
+     * al disco; el mensaje de felicitación se muestra cuando ya se tienen las estadísticas.
+     */
+    private void checkGameCompletion() {
+        if (!model.isGameComplete()) {
+            return;
+        }
+        view.updateStatus("Juego completado. ¡Felicidades!");
+
+        GameRecord record = finishGame();
+        if (record == null) {
+            view.showInfo("¡Felicidades!", "Has completado el Sudoku correctamente.");
+            return;
+        }
+        historyWriter.execute(() -> {
+            String summary = recordGame(record);
+            Platform.runLater(() -> view.showInfo("¡Felicidades!", "Has completado el Sudoku correctamente." + summary));
+        });
+    }
+
+
+    /**
+     * Cierra el juego actual para el historial.
+     *
+     * @return Juego terminado para guardar, o null si el juego no cuenta
+     */
+    private GameRecord finishGame() {
+        if (gameRecorded) {
+            return null;
+        }
+        gameRecorded = true;
+
+        long durationMillis = (System.nanoTime() - gameStart) / 1_000_000;
+        return new GameRecord(player, GameRecord.puzzleKey(model.snapshot().copyClues()), model.getSize(),
+                model.getDifficulty(), durationMillis, hintsUsed, mistakes, System.currentTimeMillis());
+    }
+
+
+    /**
+     * Guarda un juego terminado en el historial. Se ejecuta fuera del hilo de JavaFX.
+     *
+     * @param record Juego terminado
+     * @return Resumen del tiempo y de las estadísticas del jugador, o texto vacío si no se guardó
+     */
+    private String recordGame(GameRecord record) {
+        if (history == null) {
+            return "";
+        }
+        try {
+            history.record(record);
+        } catch (UncheckedIOException e) {
+            return "";
+        }
+
+        GameStatistics stats = history.playerStatistics(player);
+        String summary = "\nTiempo: " + formatDuration(record.durationMillis())
+                + "\nMejor tiempo: " + formatDuration(stats.bestMillis())
+                + "\nJuegos terminados: " + stats.games()
+                + "\nRacha: " + stats.currentStreakDays() + " día(s)";
+        if (record.difficulty() != null) {
+            GameStatistics band = history.playerStatistics(player, record.difficulty());
+            summary += "\nMejor tiempo en " + record.difficulty().name().toLowerCase(Locale.ROOT) + ": "
+                    + formatDuration(band.bestMillis());
+        }
+        return summary;
+    }
+
+
+    /**
+     * Da formato de minutos y segundos a una duración.
+     *
+     * @param millis Duración en milisegundos
+     * @return Texto m:ss
+     */
+    private static String formatDuration(long millis) {
+        long seconds = millis / 1000;
+        return String.format(Locale.ROOT, "%d:%02d", seconds / 60, seconds % 60);
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Interfaz gráfica JavaFX del juego Sudoku 6x6.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+module org.example.sudoku {
+    requires javafx.controls;
+    requires org.example.sudoku.core;
+
+    // JavaFX crea la aplicación por reflexión
+    exports org.example.sudoku to javafx.graphics;
+}
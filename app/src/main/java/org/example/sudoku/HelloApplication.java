@@ -0,0 +1,185 @@
+package org.example.sudoku;
+
+
+import controller.SudokuController;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import model.SudokuBoard;
+import model.stats.GameHistoryStore;
+import view.SudokuView;
+
+
+/**
+ * Clase principal que inicia la aplicación del juego Sudoku 6x6.
+ * Esta clase es el punto de entrada de la aplicación JavaFX.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class HelloApplication extends Application {
+
+
+    /**
+     * Propiedad de sistema que activa el arranque rápido. La usa el lanzador de la imagen jlink.
+     */
+    private static final String FAST_START_PROPERTY = "sudoku.fastStart";
+
+
+    /**
+     * Propiedad de sistema que cierra la aplicación cuando ya es interactiva.
+     * Sirve para la ejecución de entrenamiento que genera el archivo AppCDS.
+     */
+    private static final String EXIT_AFTER_STARTUP_PROPERTY = "sudoku.exitAfterStartup";
+
+
+    /** Controlador del juego, o null mientras se prepara en el arranque rápido */
+    private volatile SudokuController controller;
+
+
+    /**
+     * Método que configura y muestra la ventana principal de la aplicación.
+     * Implemente el patrón MVC creando el modelo, la vista y el controlador.
+     *
+     * @param stage El escenario principal proporcionado por JavaFX
+     */
+    @Override
+    public void start(Stage stage) {
+        if (Boolean.getBoolean(FAST_START_PROPERTY)) {
+            startFast(stage);
+            return;
+        }
+
+        try {
+            // Creo el modelo
+            SudokuBoard model = new SudokuBoard();
+
+
+            // Creo la vista
+            SudokuView view = new SudokuView();
+
+
+            // Creao el controlador y conecto el modelo y vista
+            controller = new SudokuController(model, view);
+
+
+            // Configuro la escena
+            Scene scene = new Scene(view.getRoot(), 500, 600);
+
+
+            // Configuro el escenario
+            stage.setTitle("Sudoku 6x6");
+            stage.setScene(scene);
+            stage.setResizable(false);
+            stage.show();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    /**
+     * Arranque rápido: muestra la ventana de inmediato con solo la vista y
+     * deja el modelo, la generación del primer juego y el controlador para
+     * un hilo de fondo. Los botones se habilitan cuando el juego ya responde.
+     * La vista se crea entera porque todo lo que tiene se ve en la primera
+     * ventana; las alertas se crean al usarlas y la reproducción del resolvedor
+     * llega con el controlador.
+     * Informa el tiempo hasta el primer cuadro y hasta que el juego es interactivo.
+     *
+     * @param stage El escenario principal proporcionado por JavaFX
+     */
+    private void startFast(Stage stage) {
+        StartupTimer timer = new StartupTimer();
+
+        // Solo lo visible: la vista, sin modelo ni controlador
+        SudokuView view = new SudokuView();
+        view.getNewGameButton().setDisable(true);
+        view.getHintButton().setDisable(true);
+        view.getSolveButton().setDisable(true);
+        view.updateStatus("Preparando el juego...");
+
+        Scene scene = new Scene(view.getRoot(), 500, 600);
+        Runnable firstFrame = new Runnable() {
+            @Override
+            public void run() {
+                timer.markFirstFrame();
+                scene.removePostLayoutPulseListener(this);
+            }
+        };
+        scene.addPostLayoutPulseListener(firstFrame);
+
+        stage.setTitle("Sudoku 6x6");
+        stage.setScene(scene);
+        stage.setResizable(false);
+        stage.show();
+
+        // El modelo, el primer juego y el historial se preparan fuera del hilo de JavaFX
+        Thread loader = new Thread(() -> {
+            try {
+                SudokuBoard model = new SudokuBoard();
+                model.initializeGame(SudokuController.NEW_GAME_DIFFICULTY);
+                GameHistoryStore history = SudokuController.openHistory();
+
+                Platform.runLater(() -> {
+                    controller = new SudokuController(model, view, history);
+                    view.updateBoard(model);
+                    enableGame(view, "Nuevo juego iniciado. ¡Buena suerte!");
+                    timer.markInteractive();
+                });
+            } catch (RuntimeException e) {
+                // Sin esto los botones quedarían deshabilitados para siempre
+                Platform.runLater(() -> {
+                    if (!Boolean.getBoolean(EXIT_AFTER_STARTUP_PROPERTY)) {
+                        view.showError("Error al Iniciar", "No se pudo preparar el primer juego: " + e.getMessage());
+                    }
+                    controller = new SudokuController(new SudokuBoard(), view);
+                    enableGame(view, "Presiona Nuevo Juego para empezar.");
+                });
+            }
+        }, "sudoku-startup");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+
+    /**
+     * Habilita los botones cuando el controlador ya está listo. En la ejecución
+     * de entrenamiento de AppCDS cierra la aplicación en ese momento.
+     *
+     * @param view Vista del juego
+     * @param status Mensaje de estado
+     */
+    private static void enableGame(SudokuView view, String status) {
+        view.getNewGameButton().setDisable(false);
+        view.getHintButton().setDisable(false);
+        view.getSolveButton().setDisable(false);
+        view.updateStatus(status);
+
+        if (Boolean.getBoolean(EXIT_AFTER_STARTUP_PROPERTY)) {
+            Platform.exit();
+        }
+    }
+
+
+    /**
+     * Cierra el historial de juegos al salir de la aplicación.
+     */
+    @Override
+    public void stop() {
+        if (controller != null) {
+            controller.close();
+        }
+    }
+
+
+    /**
+     * Método principal que inicia la aplicación.
+     *
+     */
+    public static void main(String[] args) {
+        launch();
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.sudoku;
+
+import model.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Mide el arranque de la aplicación: el tiempo hasta el primer cuadro
+ * dibujado y el tiempo hasta que el juego responde al usuario.
+ * Los tiempos se cuentan desde que el sistema operativo creó el proceso,
+ * así incluyen el arranque de la JVM y la carga de clases.
+ * Los tiempos quedan en el registro de métricas; solo se imprimen si se
+ * pide con la propiedad {@code sudoku.reportStartup=true}.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class StartupTimer {
+
+    /** Propiedad de sistema que imprime los tiempos de arranque en la consola */
+    private static final String REPORT_PROPERTY = "sudoku.reportStartup";
+
+    /** Instante en que se creó el proceso */
+    private final Instant processStart;
+
+    /** Tiempo hasta el primer cuadro, o null si aún no se dibujó */
+    private Duration firstFrame;
+
+    /**
+     * Constructor que toma el inicio del proceso del sistema operativo.
+     */
+    StartupTimer() {
+        // Si el sistema no informa el inicio del proceso, se mide desde aquí
+        this.processStart = ProcessHandle.current().info().startInstant().orElseGet(Instant::now);
+    }
+
+    /**
+     * Registra que se dibujó el primer cuadro.
+     */
+    void markFirstFrame() {
+        if (firstFrame == null) {
+            firstFrame = Duration.between(processStart, Instant.now());
+            MetricsRegistry.global().histogram("startup.firstFrame").record(firstFrame.toNanos());
+        }
+    }
+
+    /**
+     * Registra que el juego ya responde al usuario e informa ambos tiempos si se pidió.
+     */
+    void markInteractive() {
+        Duration interactive = Duration.between(processStart, Instant.now());
+        MetricsRegistry.global().histogram("startup.interactive").record(interactive.toNanos());
+        if (!Boolean.getBoolean(REPORT_PROPERTY)) {
+            return;
+        }
+        System.out.println("Arranque: primer cuadro en "
+                + (firstFrame == null ? "?" : firstFrame.toMillis()) + " ms, interactivo en "
+                + interactive.toMillis() + " ms");
+    }
+}
@@ -0,0 +1,238 @@
+package view;
+
+import javafx.animation.AnimationTimer;
+import model.rules.CompiledRules;
+import model.solver.BacktrackingSolver;
+import model.solver.SolverListener;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Modo "ver resolver": ejecuta el resolvedor en un hilo de fondo y muestra
+ * sus pasos (números colocados y retrocesos) en la vista.
+ *
+ * El hilo de fondo guarda el último valor de cada celda y pone la celda en
+ * una cola sin candados solo la primera vez que cambia desde el último
+ * cuadro. En cada cuadro un {@link AnimationTimer} vacía la cola y aplica el
+ * valor más reciente de cada celda, así el hilo de JavaFX hace como mucho
+ * una actualización por celda y cuadro aunque el resolvedor dé miles de pasos por segundo.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class SolverPlayback {
+
+    /** Vista donde se muestran los pasos */
+    private final SudokuView view;
+
+    /** Pasos por segundo, o 0 para no limitar la velocidad */
+    private volatile int stepsPerSecond = 10;
+
+    /** Reproducción en curso, o la última que terminó */
+    private Run run;
+
+    /** Temporizador que dibuja los cambios en cada cuadro */
+    private AnimationTimer timer;
+
+    /**
+     * Constructor que crea la reproducción para una vista.
+     *
+     * @param view Vista donde se muestran los pasos
+     */
+    public SolverPlayback(SudokuView view) {
+        this.view = view;
+    }
+
+    /**
+     * Empieza a resolver un tablero mostrando los pasos. Se debe llamar desde el hilo de JavaFX.
+     * Si había otra reproducción en curso se detiene; su resolvedor puede tardar un poco
+     * en notarlo, pero ya no toca la vista ni la nueva reproducción.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores iniciales en orden plano (0 = vacía)
+     * @param onFinished Se llama en el hilo de JavaFX al terminar, con la solución o null
+     */
+    public void start(CompiledRules rules, int[] cells, Consumer<int[]> onFinished) {
+        stop();
+
+        Run current = new Run(rules.getSize(), cells);
+        run = current;
+
+        Thread worker = new Thread(() -> {
+            try {
+                current.solution = new BacktrackingSolver().solve(rules, cells, () -> current.stopped, current.new Listener());
+            } finally {
+                // Aunque el resolvedor falle, el temporizador debe terminar
+                current.finished = true;
+            }
+        }, "sudoku-playback");
+        worker.setDaemon(true);
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                current.drain();
+                view.updateStatus("Resolviendo... pasos: " + current.steps.get());
+                if (current.finished && current.pending.isEmpty()) {
+                    stop();
+                    if (timer == this) {
+                        timer = null;
+                    }
+                    if (!current.stopped) {
+                        onFinished.accept(current.solution);
+                    }
+                }
+            }
+        };
+        timer.start();
+        worker.start();
+    }
+
+    /**
+     * Detiene la reproducción. El resolvedor termina en segundo plano y no se llama {@code onFinished}.
+     */
+    public void stop() {
+        if (run != null) {
+            run.stopped = true;
+        }
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+    }
+
+    /**
+     * Indica si hay una reproducción en curso.
+     *
+     * @return true si se está resolviendo
+     */
+    public boolean isRunning() {
+        return timer != null;
+    }
+
+    /**
+     * Cambia la velocidad, incluso durante la reproducción.
+     *
+     * @param stepsPerSecond Pasos por segundo, o 0 para no limitar la velocidad
+     */
+    public void setStepsPerSecond(int stepsPerSecond) {
+        this.stepsPerSecond = Math.max(0, stepsPerSecond);
+    }
+
+    /**
+     * Estado de una reproducción. Cada llamada a {@link #start} crea el suyo, y el
+     * hilo del resolvedor, su oyente y su temporizador solo usan ese, así un
+     * resolvedor anterior que todavía no notó la detención no mezcla sus pasos
+     * ni su solución con los de la reproducción nueva.
+     */
+    private final class Run {
+
+        /** Tamaño del tablero que se está resolviendo */
+        private final int size;
+
+        /** Último valor de cada celda escrito por el resolvedor */
+        private final AtomicIntegerArray latest;
+
+        /** 1 si la celda ya está en la cola de pendientes */
+        private final AtomicIntegerArray dirty;
+
+        /** Celdas con cambios pendientes de dibujar */
+        private final Queue<Integer> pending = new ConcurrentLinkedQueue<>();
+
+        /** Pasos dados por el resolvedor */
+        private final AtomicLong steps = new AtomicLong();
+
+        /** Indica si se pidió detener esta reproducción */
+        private volatile boolean stopped;
+
+        /** Indica si el resolvedor terminó */
+        private volatile boolean finished;
+
+        /** Solución encontrada, o null */
+        private volatile int[] solution;
+
+        /**
+         * Constructor que prepara el estado a partir del tablero inicial.
+         *
+         * @param size Tamaño del tablero
+         * @param cells Valores iniciales en orden plano
+         */
+        private Run(int size, int[] cells) {
+            this.size = size;
+            this.latest = new AtomicIntegerArray(cells);
+            this.dirty = new AtomicIntegerArray(cells.length);
+        }
+
+        /**
+         * Aplica a la vista el último valor de cada celda que cambió desde el cuadro anterior.
+         */
+        private void drain() {
+            Integer cell;
+            while ((cell = pending.poll()) != null) {
+                // Se limpia antes de leer: un cambio posterior vuelve a encolar la celda
+                dirty.set(cell, 0);
+                int value = latest.get(cell);
+                view.updateCell(cell / size, cell % size, value, true);
+            }
+        }
+
+        /**
+         * Recibe los pasos del resolvedor en el hilo de fondo.
+         */
+        private final class Listener implements SolverListener {
+
+            /** Instante en que se permite el siguiente paso */
+            private long nextStep = System.nanoTime();
+
+            @Override
+            public void onPlace(int cell, int value) {
+                publish(cell, value);
+            }
+
+            @Override
+            public void onBacktrack(int cell) {
+                publish(cell, 0);
+            }
+
+            /**
+             * Publica el nuevo valor de una celda y espera según la velocidad.
+             *
+             * @param cell Índice plano de la celda
+             * @param value Nuevo valor (0 = vacía)
+             */
+            private void publish(int cell, int value) {
+                if (stopped) {
+                    return;
+                }
+                latest.set(cell, value);
+                if (dirty.compareAndSet(cell, 0, 1)) {
+                    pending.offer(cell);
+                }
+                steps.incrementAndGet();
+                throttle();
+            }
+
+            /**
+             * Espera hasta el siguiente paso permitido por la velocidad actual.
+             */
+            private void throttle() {
+                int rate = stepsPerSecond;
+                if (rate <= 0) {
+                    return;
+                }
+                long now = System.nanoTime();
+                nextStep = Math.max(nextStep, now) + 1_000_000_000L / rate;
+                while (!stopped && now < nextStep) {
+                    LockSupport.parkNanos(nextStep - now);
+                    now = System.nanoTime();
+                }
+            }
+        }
+    }
+}
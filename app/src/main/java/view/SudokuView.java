@@ -5,11 +5,15 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import model.SudokuBoard;
+import model.metrics.LatencyHistogram;
+import model.metrics.MetricsRegistry;
+import model.metrics.ViewRefreshEvent;
 
 
 /**
@@ -23,6 +27,9 @@ import model.SudokuBoard;
 
 public class SudokuView {
 
+    /** Latencia de las actualizaciones de celdas */
+    private static final LatencyHistogram REFRESH_LATENCY = MetricsRegistry.global().histogram("view.refresh");
+
     /** Panel principal que contiene todos los elementos de la vista */
     private BorderPane root;
 
@@ -38,12 +45,24 @@ public class SudokuView {
     /** Botón para obtener una ayuda */
     private Button hintButton;
 
+    /** Botón para ver cómo se resuelve el tablero */
+    private Button solveButton;
+
+    /** Control de la velocidad de la reproducción (10^valor pasos por segundo, el máximo es sin límite) */
+    private Slider speedSlider;
+
+    /** Etiqueta que muestra la velocidad elegida */
+    private Label speedLabel;
+
     /** Etiqueta que muestra el estado del juego */
     private Label statusLabel;
 
     /** Celda actualmente seleccionada */
     private SudokuCell selectedCell;
 
+    /** Indica si las alertas se omiten (pruebas de rendimiento sin pantalla) */
+    private boolean alertsSuppressed;
+
     /**
      * Constructor que inicializa la interfaz gráfica.
      */
@@ -75,10 +94,13 @@ public class SudokuView {
         VBox topBox = new VBox(10, titleLabel);
         topBox.setAlignment(Pos.CENTER);
 
-        HBox controlBox = new HBox(10, newGameButton, hintButton);
+        HBox controlBox = new HBox(10, newGameButton, hintButton, solveButton);
         controlBox.setAlignment(Pos.CENTER);
 
-        VBox bottomBox = new VBox(10, controlBox, statusLabel);
+        HBox speedBox = new HBox(10, new Label("Velocidad:"), speedSlider, speedLabel);
+        speedBox.setAlignment(Pos.CENTER);
+
+        VBox bottomBox = new VBox(10, controlBox, speedBox, statusLabel);
         bottomBox.setAlignment(Pos.CENTER);
 
         root.setTop(topBox);
@@ -136,6 +158,38 @@ public class SudokuView {
 
         hintButton = new Button("Ayuda");
         hintButton.setPrefWidth(120);
+
+        solveButton = new Button("Ver resolver");
+        solveButton.setPrefWidth(120);
+
+        // Escala logarítmica: 0 = 1 paso/s, 3 = 1000 pasos/s, 4 = sin límite
+        speedSlider = new Slider(0, 4, 1);
+        speedSlider.setPrefWidth(200);
+        speedLabel = new Label();
+        speedLabel.setPrefWidth(100);
+        speedSlider.valueProperty().addListener((observable, oldValue, newValue) -> updateSpeedLabel());
+        updateSpeedLabel();
+    }
+
+    /**
+     * Actualiza el texto de la velocidad según el control deslizante.
+     */
+    private void updateSpeedLabel() {
+        int steps = getStepsPerSecond();
+        speedLabel.setText(steps == 0 ? "Sin límite" : steps + " pasos/s");
+    }
+
+    /**
+     * Obtiene la velocidad elegida para ver resolver el tablero.
+     *
+     * @return Pasos por segundo, o 0 si no hay límite
+     */
+    public int getStepsPerSecond() {
+        double value = speedSlider.getValue();
+        if (value >= speedSlider.getMax()) {
+            return 0;
+        }
+        return (int) Math.round(Math.pow(10, value));
     }
 
     /**
@@ -144,6 +198,10 @@ public class SudokuView {
      * @param board El modelo del tablero de Sudoku
      */
     public void updateBoard(SudokuBoard board) {
+        ViewRefreshEvent event = new ViewRefreshEvent();
+        event.begin();
+        long start = MetricsRegistry.global().startTimer();
+
         for (int row = 0; row < SudokuBoard.BOARD_SIZE; row++) {
             for (int col = 0; col < SudokuBoard.BOARD_SIZE; col++) {
                 int value = board.getCellValue(row, col);
@@ -153,6 +211,12 @@ public class SudokuView {
                 cells[row][col].setEditable(editable);
             }
         }
+
+        REFRESH_LATENCY.recordSince(start);
+        if (event.shouldCommit()) {
+            event.cells = SudokuBoard.BOARD_SIZE * SudokuBoard.BOARD_SIZE;
+            event.commit();
+        }
     }
 
     /**
@@ -164,10 +228,20 @@ public class SudokuView {
      * @param isValid Indica si el valor es válido según las reglas
      */
     public void updateCell(int row, int col, int value, boolean isValid) {
+        ViewRefreshEvent event = new ViewRefreshEvent();
+        event.begin();
+        long start = MetricsRegistry.global().startTimer();
+
         if (row >= 0 && row < SudokuBoard.BOARD_SIZE && col >= 0 && col < SudokuBoard.BOARD_SIZE) {
             cells[row][col].setValue(value);
             cells[row][col].setValid(isValid);
         }
+
+        REFRESH_LATENCY.recordSince(start);
+        if (event.shouldCommit()) {
+            event.cells = 1;
+            event.commit();
+        }
     }
 
     /**
@@ -191,6 +265,9 @@ public class SudokuView {
      * @return true si el usuario confirma, false en caso contrario
      */
     public boolean showConfirmation(String title, String message) {
+        if (alertsSuppressed) {
+            return true;
+        }
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setTitle(title);
         alert.setHeaderText(null);
@@ -206,6 +283,9 @@ public class SudokuView {
      * @param message Mensaje del error
      */
     public void showError(String title, String message) {
+        if (alertsSuppressed) {
+            return;
+        }
         Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setTitle(title);
         alert.setHeaderText(null);
@@ -220,6 +300,9 @@ public class SudokuView {
      * @param message Contenido del mensaje
      */
     public void showInfo(String title, String message) {
+        if (alertsSuppressed) {
+            return;
+        }
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle(title);
         alert.setHeaderText(null);
@@ -227,6 +310,16 @@ public class SudokuView {
         alert.showAndWait();
     }
 
+    /**
+     * Omite las alertas: las confirmaciones se aceptan solas y los mensajes no se muestran.
+     * Lo usa el banco de pruebas de latencia, donde una alerta modal detendría el guion.
+     *
+     * @param suppressed true para omitir las alertas
+     */
+    public void setAlertsSuppressed(boolean suppressed) {
+        this.alertsSuppressed = suppressed;
+    }
+
     /**
      * Actualiza el texto de la etiqueta de estado.
      *
@@ -254,6 +347,35 @@ public class SudokuView {
         return hintButton;
     }
 
+    /**
+     * Obtiene el botón para ver resolver el tablero.
+     *
+     * @return El botón de ver resolver
+     */
+    public Button getSolveButton() {
+        return solveButton;
+    }
+
+    /**
+     * Obtiene el control deslizante de la velocidad.
+     *
+     * @return El control de velocidad
+     */
+    public Slider getSpeedSlider() {
+        return speedSlider;
+    }
+
+    /**
+     * Obtiene una celda del tablero.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return La celda en esa posición
+     */
+    public SudokuCell getCell(int row, int col) {
+        return cells[row][col];
+    }
+
     /**
      * Obtiene la celda actualmente seleccionada.
      *
@@ -0,0 +1,201 @@
+package bench;
+
+import model.batch.BatchValidator;
+import model.batch.BatchValidators;
+import model.batch.PackedBoardBatch;
+import model.generator.SolutionGrids;
+import model.rules.Cage;
+import model.rules.ClassicRules;
+import model.rules.CompiledRules;
+import model.rules.DiagonalRules;
+import model.rules.KillerRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compara el validador de lotes con vectores con el escalar sobre los mismos tableros.
+ * Para cada variante arma un lote con soluciones completas y con versiones
+ * alteradas de ellas: celdas vacías, números repetidos, valores fuera de
+ * {@code 0..tamaño} y tableros al azar. Los dos validadores deben dar el mismo
+ * resultado en cada tablero, y los valores fuera de rango deben dar {@code INVALID}.
+ * Termina con código 1 si encuentra alguna diferencia.
+ *
+ * <p>Argumentos: {@code --boards N --seed S}.</p>
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class BatchValidatorCheck {
+
+    /** Formas de alterar una solución */
+    private enum Mutation {
+        /** La solución sin cambios */
+        NONE,
+        /** Algunas celdas vacías */
+        BLANKS,
+        /** Una celda con el número de otra de su unidad */
+        DUPLICATE,
+        /** Todas las celdas desplazadas en el tamaño del tablero */
+        SHIFTED,
+        /** Una celda con un valor fuera de rango */
+        OUT_OF_RANGE,
+        /** Valores al azar entre 0 y el tamaño */
+        RANDOM
+    }
+
+    /**
+     * Constructor privado, clase con punto de entrada.
+     */
+    private BatchValidatorCheck() {
+    }
+
+    /**
+     * Compara los dos validadores en un lote de una variante.
+     *
+     * @param name Nombre de la variante
+     * @param rules Reglas compiladas
+     * @param solutions Da una solución completa nueva en cada llamada
+     * @param boards Tableros del lote
+     * @param random Generador de las alteraciones
+     * @return Número de diferencias encontradas
+     */
+    private static int check(String name, CompiledRules rules, Supplier<int[]> solutions, int boards, Random random) {
+        PackedBoardBatch batch = new PackedBoardBatch(rules, boards);
+        List<Mutation> mutations = new ArrayList<>(boards);
+        Mutation[] kinds = Mutation.values();
+        for (int board = 0; board < boards; board++) {
+            Mutation mutation = kinds[board % kinds.length];
+            batch.add(mutate(rules, solutions.get(), mutation, random));
+            mutations.add(mutation);
+        }
+
+        byte[] vector = new byte[boards];
+        byte[] scalar = new byte[boards];
+        BatchValidators.create().validate(batch, vector);
+        BatchValidators.scalar().validate(batch, scalar);
+
+        int failures = 0;
+        int[] counts = new int[3];
+        for (int board = 0; board < boards; board++) {
+            Mutation mutation = mutations.get(board);
+            boolean outOfRange = mutation == Mutation.SHIFTED || mutation == Mutation.OUT_OF_RANGE;
+            if (vector[board] != scalar[board] || (outOfRange && scalar[board] != BatchValidator.INVALID)) {
+                System.out.printf("%s: tablero %d (%s): vectores=%d escalar=%d%n",
+                        name, board, mutation, vector[board], scalar[board]);
+                failures++;
+            }
+            counts[scalar[board]]++;
+        }
+        System.out.printf("%-12s %6d tableros  inválidos=%d incompletos=%d completos=%d  diferencias=%d%n",
+                name, boards, counts[BatchValidator.INVALID], counts[BatchValidator.INCOMPLETE],
+                counts[BatchValidator.COMPLETE], failures);
+        return failures;
+    }
+
+    /**
+     * Altera una solución según el tipo pedido.
+     *
+     * @param rules Reglas compiladas
+     * @param grid Solución completa, se modifica
+     * @param mutation Tipo de alteración
+     * @param random Generador
+     * @return El tablero alterado
+     */
+    private static int[] mutate(CompiledRules rules, int[] grid, Mutation mutation, Random random) {
+        int size = rules.getSize();
+        switch (mutation) {
+            case NONE -> {
+            }
+            case BLANKS -> {
+                int blanks = 1 + random.nextInt(grid.length / 2);
+                for (int i = 0; i < blanks; i++) {
+                    grid[random.nextInt(grid.length)] = 0;
+                }
+            }
+            case DUPLICATE -> {
+                int[] unit = rules.getUnits()[random.nextInt(rules.getUnits().length)];
+                int a = random.nextInt(unit.length);
+                int b = (a + 1 + random.nextInt(unit.length - 1)) % unit.length;
+                grid[unit[a]] = grid[unit[b]];
+            }
+            case SHIFTED -> {
+                for (int cell = 0; cell < grid.length; cell++) {
+                    grid[cell] += size;
+                }
+            }
+            case OUT_OF_RANGE -> {
+                // Incluye valores cuyo desplazamiento da la vuelta (32 + n) y negativos
+                int[] bad = {size + 1, 31, 32 + 1 + random.nextInt(size), -1 - random.nextInt(size)};
+                grid[random.nextInt(grid.length)] = bad[random.nextInt(bad.length)];
+            }
+            case RANDOM -> {
+                for (int cell = 0; cell < grid.length; cell++) {
+                    grid[cell] = random.nextInt(size + 1);
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Compara los validadores con soluciones al azar de una variante sin jaulas.
+     *
+     * @param name Nombre de la variante
+     * @param rules Reglas compiladas
+     * @param boards Tableros del lote
+     * @param random Generador
+     * @return Número de diferencias encontradas
+     */
+    private static int check(String name, CompiledRules rules, int boards, Random random) {
+        return check(name, rules, () -> SolutionGrids.random(rules, random), boards, random);
+    }
+
+    /**
+     * Compara los validadores en una variante Killer 6x6 con jaulas de dos celdas
+     * vecinas tomadas de una solución; todos los tableros parten de esa solución,
+     * porque otra solución casi nunca cumple las mismas jaulas.
+     *
+     * @param boards Tableros del lote
+     * @param random Generador
+     * @return Número de diferencias encontradas
+     */
+    private static int checkKiller(int boards, Random random) {
+        ClassicRules base = new ClassicRules(2, 3);
+        int[] solution = SolutionGrids.random(base.compile(), random);
+        List<Cage> cages = new ArrayList<>();
+        for (int cell = 0; cell < solution.length; cell += 2) {
+            cages.add(new Cage(solution[cell] + solution[cell + 1], cell, cell + 1));
+        }
+        return check("killer 6x6", new KillerRules(base, cages).compile(), solution::clone, boards, random);
+    }
+
+    /**
+     * Ejecuta la comparación.
+     *
+     * @param args Argumentos de la línea de comandos
+     */
+    public static void main(String[] args) {
+        int boards = 3000;
+        long seed = 42;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--boards" -> boards = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+
+        System.out.println("Validador con vectores disponible: " + BatchValidators.isVectorAvailable());
+        Random random = new Random(seed);
+        int failures = 0;
+        failures += check("clásico 6x6", new ClassicRules(2, 3).compile(), boards, random);
+        failures += check("clásico 9x9", new ClassicRules(3, 3).compile(), boards, random);
+        failures += check("diagonal 6x6", new DiagonalRules(2, 3).compile(), boards, random);
+        failures += checkKiller(boards, random);
+        System.exit(failures == 0 ? 0 : 1);
+    }
+}
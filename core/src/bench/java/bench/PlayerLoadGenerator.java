@@ -0,0 +1,380 @@
+package bench;
+
+import model.BoardSnapshot;
+import model.SudokuBoard;
+import model.generator.Difficulty;
+import model.metrics.LatencyHistogram;
+import model.metrics.MetricsRegistry;
+import model.rules.ClassicRules;
+import model.rules.CompiledRules;
+import model.solver.BacktrackingSolver;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generador de carga que simula miles de jugadores a la vez, cada uno en su
+ * propio hilo virtual y con su propio {@link SudokuBoard}.
+ * Cada jugador empieza un juego con solución única de la dificultad pedida,
+ * piensa un rato (tiempo con distribución log-normal) y hace una jugada: un
+ * número correcto, un error, un borrado o una ayuda, igual que el controlador
+ * después de cada número revisa si el juego terminó, y al completarlo empieza otro.
+ * Al final informa operaciones por segundo y percentiles de latencia de cada
+ * operación, además del tiempo que pasó el recolector de basura.
+ *
+ * <p>Argumentos: {@code --players N --seconds S --think-ms mediana --difficulty BANDA --seed S}.</p>
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class PlayerLoadGenerator {
+
+    /** Operaciones del modelo que se miden */
+    enum Operation {
+        /** Generar un juego nuevo */
+        NEW_GAME,
+        /** Colocar un número (correcto o no) */
+        PLACE,
+        /** Borrar una celda */
+        DELETE,
+        /** Pedir una ayuda */
+        HINT,
+        /** Revisar si el juego terminó */
+        CHECK
+    }
+
+    /** Dispersión del tiempo de pensar (sigma de la log-normal) */
+    private static final double THINK_SIGMA = 0.6;
+
+    /** Probabilidad de colocar el número correcto */
+    private static final double CORRECT = 0.70;
+
+    /** Probabilidad de colocar un número equivocado */
+    private static final double MISTAKE = 0.15;
+
+    /** Probabilidad de borrar una celda; el resto de las jugadas son ayudas */
+    private static final double DELETE = 0.10;
+
+    /** Reglas compartidas por todos los tableros */
+    private final CompiledRules rules = new ClassicRules(SudokuBoard.BLOCK_ROWS, SudokuBoard.BLOCK_COLS).compile();
+
+    /** Resuelve cada juego nuevo para que el jugador sepa qué número es correcto */
+    private final BacktrackingSolver solver = new BacktrackingSolver();
+
+    /** Registro propio, activo aunque las métricas globales estén apagadas */
+    private final MetricsRegistry registry = new MetricsRegistry(true);
+
+    /** Latencia de cada operación */
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+
+    /** Juegos completados */
+    private final LongAdder completed = new LongAdder();
+
+    /** Mediana del tiempo de pensar, en milisegundos */
+    private final double thinkMillis;
+
+    /** Banda de dificultad de los juegos nuevos */
+    private final Difficulty difficulty;
+
+    /**
+     * Constructor que prepara los histogramas.
+     *
+     * @param thinkMillis Mediana del tiempo de pensar, en milisegundos
+     * @param difficulty Banda de dificultad de los juegos nuevos
+     */
+    private PlayerLoadGenerator(double thinkMillis, Difficulty difficulty) {
+        this.thinkMillis = thinkMillis;
+        this.difficulty = difficulty;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, registry.histogram("load." + operation.name().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    /**
+     * Simula un jugador hasta el instante dado.
+     *
+     * @param random Generador propio del jugador
+     * @param deadline Instante de fin en nanosegundos
+     * @throws InterruptedException Si se interrumpe el hilo
+     */
+    private void play(SplittableRandom random, long deadline) throws InterruptedException {
+        SudokuBoard board = new SudokuBoard(rules);
+        int size = board.getSize();
+        int[] solution = null;
+
+        // Memoria de trabajo de cada jugador, para no medir la basura del propio generador
+        int[] matches = new int[size * size];
+        int[] wrong = new int[size * size];
+
+        while (System.nanoTime() < deadline) {
+            if (solution == null) {
+                // Los juegos con banda siempre tienen solución única, como los de la aplicación
+                long start = System.nanoTime();
+                board.initializeGame(difficulty);
+                latencies.get(Operation.NEW_GAME).recordSince(start);
+
+                solution = solver.solve(rules, board.snapshot().copyCells(), () -> false);
+                if (solution == null) {
+                    throw new IllegalStateException("El generador devolvió un juego sin solución");
+                }
+            }
+
+            think(random);
+
+            double roll = random.nextDouble();
+            BoardSnapshot snapshot = board.snapshot();
+            if (roll < CORRECT + MISTAKE) {
+                int cell = pick(snapshot, size, random, true, solution, matches, wrong);
+                if (cell < 0) {
+                    // No quedan celdas vacías: el tablero tiene errores, hay que borrar
+                    cell = pick(snapshot, size, random, false, solution, matches, wrong);
+                    delete(board, cell, size);
+                    continue;
+                }
+                int num = solution[cell];
+                if (roll >= CORRECT) {
+                    num = (num + random.nextInt(size - 1)) % size + 1;
+                }
+
+                long start = System.nanoTime();
+                boolean placed = board.placeNumber(cell / size, cell % size, num);
+                latencies.get(Operation.PLACE).recordSince(start);
+
+                if (placed) {
+                    start = System.nanoTime();
+                    boolean complete = board.isGameComplete();
+                    latencies.get(Operation.CHECK).recordSince(start);
+                    if (complete) {
+                        completed.increment();
+                        solution = null;
+                    }
+                }
+            } else if (roll < CORRECT + MISTAKE + DELETE) {
+                int cell = pick(snapshot, size, random, false, solution, matches, wrong);
+                if (cell >= 0) {
+                    delete(board, cell, size);
+                }
+            } else {
+                int cell = pick(snapshot, size, random, true, solution, matches, wrong);
+                if (cell >= 0) {
+                    long start = System.nanoTime();
+                    int hint = board.getHint(cell / size, cell % size);
+                    latencies.get(Operation.HINT).recordSince(start);
+                    if (hint == solution[cell]) {
+                        board.placeNumber(cell / size, cell % size, hint);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Borra una celda, como la tecla de borrado.
+     *
+     * @param board Tablero del jugador
+     * @param cell Celda en orden plano, o -1
+     * @param size Tamaño del tablero
+     */
+    private void delete(SudokuBoard board, int cell, int size) {
+        if (cell < 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        board.placeNumber(cell / size, cell % size, 0);
+        latencies.get(Operation.DELETE).recordSince(start);
+    }
+
+    /**
+     * Elige una celda editable al azar.
+     *
+     * @param snapshot Vista del tablero
+     * @param size Tamaño del tablero
+     * @param random Generador del jugador
+     * @param empty true para elegir una celda vacía; false para una llena, con preferencia por las equivocadas
+     * @param solution Solución del juego
+     * @param matches Memoria de trabajo para las celdas que sirven
+     * @param wrong Memoria de trabajo para las celdas equivocadas
+     * @return Celda en orden plano, o -1 si no hay ninguna
+     */
+    private static int pick(BoardSnapshot snapshot, int size, SplittableRandom random, boolean empty, int[] solution,
+                            int[] matches, int[] wrong) {
+        int matchCount = 0;
+        int wrongCount = 0;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (!snapshot.isCellEditable(row, col)) {
+                    continue;
+                }
+                int value = snapshot.getCellValue(row, col);
+                if ((value == 0) == empty) {
+                    matches[matchCount++] = row * size + col;
+                    if (value != 0 && value != solution[row * size + col]) {
+                        wrong[wrongCount++] = row * size + col;
+                    }
+                }
+            }
+        }
+        if (wrongCount > 0) {
+            return wrong[random.nextInt(wrongCount)];
+        }
+        return matchCount == 0 ? -1 : matches[random.nextInt(matchCount)];
+    }
+
+    /**
+     * Espera un tiempo de pensar con distribución log-normal.
+     *
+     * @param random Generador del jugador
+     * @throws InterruptedException Si se interrumpe el hilo
+     */
+    private void think(SplittableRandom random) throws InterruptedException {
+        if (thinkMillis <= 0) {
+            return;
+        }
+        double gaussian = gaussian(random);
+        long micros = (long) (thinkMillis * 1000 * Math.exp(THINK_SIGMA * gaussian));
+        Thread.sleep(Duration.ofNanos(micros * 1000));
+    }
+
+    /**
+     * Normal estándar por el método de Box-Muller.
+     *
+     * @param random Generador del jugador
+     * @return Valor con distribución normal estándar
+     */
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    /**
+     * Imprime el resumen de la ejecución.
+     *
+     * @param seconds Duración real en segundos
+     * @param gcCount Colecciones de basura durante la ejecución
+     * @param gcMillis Milisegundos de recolección durante la ejecución
+     * @param failed Jugadores que terminaron con una excepción
+     * @param players Jugadores que se lanzaron
+     */
+    private void report(double seconds, long gcCount, long gcMillis, int failed, int players) {
+        System.out.printf(Locale.ROOT, "%-9s %10s %10s %10s %10s %10s %10s%n",
+                "", "ops", "ops/s", "p50 us", "p90 us", "p99 us", "max us");
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram h = latencies.get(operation);
+            System.out.printf(Locale.ROOT, "%-9s %10d %10.0f %10.1f %10.1f %10.1f %10.1f%n",
+                    operation.name(), h.getCount(), h.getCount() / seconds,
+                    h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0,
+                    h.getValueAtPercentile(99) / 1000.0, h.getMax() / 1000.0);
+        }
+        System.out.printf(Locale.ROOT, "Juegos completados: %d (%.1f/s)%n",
+                completed.sum(), completed.sum() / seconds);
+        System.out.printf(Locale.ROOT, "Recolector de basura: %d colecciones, %d ms (%.2f %% del tiempo)%n",
+                gcCount, gcMillis, gcMillis / (seconds * 10));
+        if (failed > 0) {
+            System.out.printf(Locale.ROOT, "ATENCIÓN: %d de %d jugadores fallaron; las cifras son solo de los demás%n",
+                    failed, players);
+        }
+    }
+
+    /**
+     * Ejecuta la prueba de carga.
+     *
+     * @param args Argumentos de la línea de comandos
+     * @throws Exception Si la ejecución falla
+     */
+    public static void main(String[] args) throws Exception {
+        int players = 5000;
+        int seconds = 60;
+        double thinkMillis = 800;
+        Difficulty difficulty = Difficulty.MEDIUM;
+        long seed = 42;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--players" -> players = Integer.parseInt(args[i + 1]);
+                case "--seconds" -> seconds = Integer.parseInt(args[i + 1]);
+                case "--think-ms" -> thinkMillis = Double.parseDouble(args[i + 1]);
+                case "--difficulty" -> difficulty = Difficulty.valueOf(args[i + 1].toUpperCase(Locale.ROOT));
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+
+        PlayerLoadGenerator generator = new PlayerLoadGenerator(thinkMillis, difficulty);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+
+        System.out.println("Jugadores: " + players + ", duración: " + seconds + " s, mediana de pensar: "
+                + thinkMillis + " ms, dificultad: " + difficulty);
+        List<Future<?>> futures = new ArrayList<>(players);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < players; i++) {
+                SplittableRandom random = seeds.split();
+                futures.add(executor.submit(() -> {
+                    generator.play(random, deadline);
+                    return null;
+                }));
+            }
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        // Un jugador que lanzó una excepción no debe desaparecer del informe sin aviso
+        int failed = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failed++ == 0) {
+                    System.err.println("Primer jugador que falló:");
+                    e.getCause().printStackTrace();
+                }
+            }
+        }
+
+        generator.report(elapsed, gcCount() - gcCountBefore, gcMillis() - gcMillisBefore, failed, players);
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Suma las colecciones de todos los recolectores de basura desde que arrancó la JVM.
+     *
+     * @return Número de colecciones
+     */
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Suma el tiempo de todos los recolectores de basura desde que arrancó la JVM.
+     *
+     * @return Milisegundos de recolección
+     */
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+}
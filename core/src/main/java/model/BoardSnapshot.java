@@ -0,0 +1,161 @@
+package model;
+
+import model.rules.CompiledRules;
+
+/**
+ * Vista inmutable del tablero en un momento dado.
+ * Se obtiene con {@link SudokuBoard#snapshot()} sin copiar las celdas: comparte los
+ * arreglos del tablero y es el tablero quien los copia antes de su siguiente cambio.
+ * Como nadie vuelve a escribir en esos arreglos, cualquier hilo puede leer la vista
+ * sin candados mientras el hilo de la interfaz sigue jugando.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class BoardSnapshot {
+
+    /** Reglas compiladas del tablero de origen */
+    private final CompiledRules compiled;
+
+    /** Tamaño del tablero */
+    private final int size;
+
+    /** Valores en orden plano; compartidos con el tablero y nunca modificados */
+    private final int[] cells;
+
+    /** Celdas editables; compartidas con el tablero y nunca modificadas */
+    private final boolean[] editable;
+
+    /** Versión del tablero cuando se tomó la vista */
+    private final long version;
+
+    /**
+     * Crea la vista sobre arreglos que el tablero ya no modificará.
+     *
+     * @param compiled Reglas compiladas del tablero
+     * @param cells    Valores del tablero en orden plano
+     * @param editable Celdas editables
+     * @param version  Versión del tablero
+     */
+    BoardSnapshot(CompiledRules compiled, int[] cells, boolean[] editable, long version) {
+        this.compiled = compiled;
+        this.size = compiled.getSize();
+        this.cells = cells;
+        this.editable = editable;
+        this.version = version;
+    }
+
+    /**
+     * Obtiene el valor de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return El valor de la celda, o 0 si está vacía o la posición es inválida
+     */
+    public int getCellValue(int row, int col) {
+        if (isValidPosition(row, col)) {
+            return cells[row * size + col];
+        }
+        return 0;
+    }
+
+    /**
+     * Verifica si una celda es editable.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return true si la celda es editable, false en caso contrario
+     */
+    public boolean isCellEditable(int row, int col) {
+        if (isValidPosition(row, col)) {
+            return editable[row * size + col];
+        }
+        return false;
+    }
+
+    /**
+     * Copia los valores en orden plano, para los algoritmos que trabajan sobre su propio arreglo.
+     *
+     * @return Copia de los valores (0 = vacía)
+     */
+    public int[] copyCells() {
+        return cells.clone();
+    }
+
+    /**
+     * Copia solo los números iniciales; las celdas editables quedan vacías.
+     *
+     * @return Pistas del tablero en orden plano
+     */
+    public int[] copyClues() {
+        int[] clues = new int[cells.length];
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (!editable[cell]) {
+                clues[cell] = cells[cell];
+            }
+        }
+        return clues;
+    }
+
+    /**
+     * Busca el primer número válido para una celda vacía, igual que la ayuda del tablero.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Un número válido para esa celda, o 0 si no es posible
+     */
+    public int getHint(int row, int col) {
+        int cell = row * size + col;
+        if (!isValidPosition(row, col) || !editable[cell] || cells[cell] != 0) {
+            return 0;
+        }
+        for (int num = 1; num <= size; num++) {
+            if (compiled.isValidPlacement(cells, cell, num)) {
+                return num;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Verifica si el tablero estaba completo y correcto al tomar la vista.
+     *
+     * @return true si estaba completo
+     */
+    public boolean isComplete() {
+        return compiled.isComplete(cells);
+    }
+
+    /**
+     * Obtiene la versión del tablero; cambia con cada modificación,
+     * así se puede saber si una vista quedó desactualizada.
+     *
+     * @return Versión del tablero cuando se tomó la vista
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Obtiene el tamaño del tablero.
+     *
+     * @return Tamaño del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtiene las reglas compiladas del tablero.
+     *
+     * @return Reglas compiladas
+     */
+    public CompiledRules getCompiledRules() {
+        return compiled;
+    }
+
+    private boolean isValidPosition(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+}
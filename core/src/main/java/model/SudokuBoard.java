@@ -0,0 +1,564 @@
+package model;
+
+import model.generator.Difficulty;
+import model.generator.DifficultyGenerator;
+import model.metrics.Counter;
+import model.metrics.GenerationEvent;
+import model.metrics.HintEvent;
+import model.metrics.LatencyHistogram;
+import model.metrics.MetricsRegistry;
+import model.metrics.ValidationEvent;
+import model.rules.ClassicRules;
+import model.rules.CompiledRules;
+import model.rules.SudokuRules;
+import model.solver.SolverPortfolio;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Modelo que representa el tablero de Sudoku y su lógica.
+ * Esta clase maneja la representación interna del tablero (6x6 por defecto)
+ * y proporciona métodos para manipular y validar el estado del juego.
+ * Las reglas de la variante se compilan en tablas de vecinos al crear el tablero.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class SudokuBoard {
+
+    /** Tamaño del tablero Sudoku (6x6) */
+    public static final int BOARD_SIZE = 6;
+
+    /** Tamaño de los bloques (2x3) */
+    public static final int BLOCK_ROWS = 2; //fila
+    public static final int BLOCK_COLS = 3; //columna
+
+    /** Métricas de generación, validación y ayudas */
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram GENERATION_LATENCY = METRICS.histogram("board.generation");
+    private static final Counter GENERATION_ATTEMPTS = METRICS.counter("board.generation.attempts");
+    private static final LatencyHistogram VALIDATION_LATENCY = METRICS.histogram("board.validation");
+    private static final LatencyHistogram HINT_LATENCY = METRICS.histogram("board.hint");
+
+    /** Reglas de la variante que se está jugando */
+    private final SudokuRules rules;
+
+    /** Reglas compiladas en tablas de vecinos y unidades */
+    private final CompiledRules compiled;
+
+    /** Tamaño del tablero según las reglas */
+    private final int size;
+
+    /** Valores del tablero en orden plano (fila * tamaño + columna) */
+    private int[] cells;
+
+    /** Indica si cada celda es editable (las celdas iniciales no lo son) */
+    private boolean[] editable;
+
+    /** Banda de dificultad del juego actual, o null si no se generó con una banda */
+    private Difficulty difficulty;
+
+    /** Indica si los arreglos actuales pertenecen también a una vista inmutable */
+    private boolean shared;
+
+    /** Versión del tablero; aumenta con cada modificación */
+    private long version;
+
+    /** Última solución calculada para las ayudas, o null; se reutiliza mientras coincida con el tablero */
+    private int[] solution;
+
+    /**
+     * Constructor que inicializa el tablero de Sudoku clásico 6x6 con bloques de 2x3.
+     */
+    public SudokuBoard() {
+        this(new ClassicRules(BLOCK_ROWS, BLOCK_COLS));
+    }
+
+    /**
+     * Constructor que inicializa el tablero con una variante de reglas.
+     * Las reglas se compilan aquí una sola vez, antes de empezar a jugar.
+     *
+     * @param rules Reglas de la variante (clásica, diagonal, irregular o Killer)
+     */
+    public SudokuBoard(SudokuRules rules) {
+        this(rules.compile());
+    }
+
+    /**
+     * Constructor que inicializa el tablero con reglas ya compiladas.
+     * Permite crear muchos tableros de la misma variante sin volver a compilar las reglas.
+     *
+     * @param compiled Reglas compiladas de la variante
+     */
+    public SudokuBoard(CompiledRules compiled) {
+        this.rules = compiled.getSource();
+        this.compiled = compiled;
+        this.size = compiled.getSize();
+
+        // Todas las celdas son editables inicialmente, 0 representa una celda vacía
+        cells = new int[compiled.getCellCount()];
+        editable = new boolean[compiled.getCellCount()];
+        Arrays.fill(editable, true);
+    }
+
+    /**
+     * este metodo inicializa un nuevo juego con algunos números iniciales en el tablero.
+     * Coloca 2 números por cada región (bloque de 2x3 en el juego clásico) asegurándose que sean válidos.
+     */
+    public void initializeGame() {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        long start = METRICS.startTimer();
+
+        // Limpiar el tablero
+        clearBoard();
+        difficulty = null;
+
+        Random random = new Random();
+
+        // Colocar 2 números en cada región
+        int attempts = 0;
+        for (int[] region : compiled.getRegions()) {
+            attempts += placeNumbersInRegion(region, random);
+        }
+
+        GENERATION_LATENCY.recordSince(start);
+        GENERATION_ATTEMPTS.add(attempts);
+        if (event.shouldCommit()) {
+            event.size = size;
+            event.attempts = attempts;
+            event.commit();
+        }
+    }
+
+    /**
+     * Inicializa un nuevo juego con solución única dentro de una banda de dificultad.
+     *
+     * @param difficulty Banda de dificultad pedida
+     */
+    public void initializeGame(Difficulty difficulty) {
+        loadPuzzle(generatePuzzle(difficulty), difficulty);
+    }
+
+    /**
+     * Genera los números iniciales de un juego con solución única dentro de una
+     * banda de dificultad, sin tocar el tablero. Solo lee las reglas compiladas,
+     * así que se puede llamar desde otro hilo y cargar el resultado después con
+     * {@link #loadPuzzle(int[], Difficulty)}.
+     *
+     * @param difficulty Banda de dificultad pedida
+     * @return Números iniciales en orden plano (0 = vacía)
+     */
+    public int[] generatePuzzle(Difficulty difficulty) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        long start = METRICS.startTimer();
+
+        int[] puzzle = new DifficultyGenerator(compiled).generateOne(difficulty, new Random());
+
+        GENERATION_LATENCY.recordSince(start);
+        if (event.shouldCommit()) {
+            event.size = size;
+            event.commit();
+        }
+        return puzzle;
+    }
+
+    /**
+     * Coloca 2 números aleatorios en una región específica.
+     *
+     * @param region Celdas de la región
+     * @param random Generador de números aleatorios
+     * @return Número de intentos, contando los reintentos
+     */
+    private int placeNumbersInRegion(int[] region, Random random) {
+        int count = 0;
+        int attempts = 0;
+        while (count < 2) { // 2 números por región
+            attempts++;
+            int cell = region[random.nextInt(region.length)];
+
+            // Si la celda está vacía
+            if (cells[cell] == 0) {
+                int num = random.nextInt(size) + 1; // Número del 1 al tamaño del tablero
+
+                // Verificar si es válido colocar este número aquí
+                if (compiled.isValidPlacement(cells, cell, num)) {
+                    beginWrite();
+                    cells[cell] = num;
+                    editable[cell] = false; // No se puede editar esta celda
+                    count++;
+                }
+            }
+        }
+        return attempts;
+    }
+
+    /**
+     * Carga un tablero importado: las celdas con número pasan a ser
+     * números iniciales (no editables) y las demás quedan vacías.
+     *
+     * @param clues Valores del tablero en orden plano (0 = vacía)
+     * @return true si el tablero se cargó, false si no cumple las reglas o no tiene el tamaño correcto
+     */
+    public boolean loadPuzzle(int[] clues) {
+        if (!fitsRules(clues)) {
+            return false;
+        }
+
+        beginWrite();
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = clues[cell];
+            editable[cell] = clues[cell] == 0;
+        }
+        difficulty = null;
+        return true;
+    }
+
+    /**
+     * Verifica que un tablero importado cumpla las reglas y tenga solución.
+     * La solución se busca con el portafolio de resolvedores, sin tocar el tablero.
+     *
+     * @param clues Valores del tablero en orden plano (0 = vacía)
+     * @return true si el tablero se puede cargar y resolver
+     */
+    public boolean isSolvable(int[] clues) {
+        return fitsRules(clues) && SharedPortfolio.INSTANCE.solve(compiled, clues).isSolved();
+    }
+
+    /**
+     * Verifica el tamaño, el rango de los valores y las reglas de un tablero.
+     *
+     * @param clues Valores del tablero en orden plano (0 = vacía)
+     * @return true si el tablero tiene el tamaño correcto y no rompe las reglas
+     */
+    private boolean fitsRules(int[] clues) {
+        if (clues.length != cells.length) {
+            return false;
+        }
+        for (int value : clues) {
+            if (value < 0 || value > size) {
+                return false;
+            }
+        }
+        return compiled.isValid(clues);
+    }
+
+    /**
+     * Carga un tablero generado con una banda de dificultad, que queda como la del juego.
+     *
+     * @param clues Valores del tablero en orden plano (0 = vacía)
+     * @param difficulty Banda con que se generó el tablero
+     * @return true si el tablero se cargó, false si no cumple las reglas o no tiene el tamaño correcto
+     */
+    public boolean loadPuzzle(int[] clues, Difficulty difficulty) {
+        if (!loadPuzzle(clues)) {
+            return false;
+        }
+        this.difficulty = difficulty;
+        return true;
+    }
+
+    /**
+     * Limpia el tablero y lo prepara para un nuevo juego.
+     */
+    private void clearBoard() {
+        beginWrite();
+        Arrays.fill(cells, 0);
+        Arrays.fill(editable, true);
+    }
+
+    /**
+     * Prepara el tablero para una modificación. Si los arreglos están compartidos
+     * con una vista, se copian primero para que la vista no cambie nunca.
+     */
+    private void beginWrite() {
+        if (shared) {
+            cells = cells.clone();
+            editable = editable.clone();
+            shared = false;
+        }
+        version++;
+    }
+
+    /**
+     * Toma una vista inmutable del tablero en tiempo constante.
+     * La vista comparte los arreglos actuales y el tablero los copia solo
+     * cuando vuelve a cambiar, así que muchas vistas seguidas sin jugadas
+     * entre ellas no copian nada. La vista se puede pasar a otros hilos
+     * (ayudas, guardado, resolvedores) y leer sin candados.
+     *
+     * @return Vista inmutable del estado actual
+     */
+    public BoardSnapshot snapshot() {
+        shared = true;
+        return new BoardSnapshot(compiled, cells, editable, version);
+    }
+
+    /**
+     * Obtiene la versión actual del tablero.
+     *
+     * @return Número que aumenta con cada modificación
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Verifica si es válido colocar un número en una posición específica.
+     * Recorre la tabla precalculada de vecinos de la celda.
+     *
+     * @param row Fila donde se coloca el número
+     * @param col Columna donde se coloca el número
+     * @param num Número a colocar
+     * @return true si el número puede ser colocado, false en caso contrario o si la posición está fuera del tablero
+     */
+    public boolean isValidPlacement(int row, int col, int num) {
+        // Sin esta verificación, una columna fuera de rango apuntaría a una celda de otra fila
+        if (!isValidPosition(row, col)) {
+            return false;
+        }
+        return compiled.isValidPlacement(cells, row * size + col, num);
+    }
+
+    /**
+     * Coloca un número en una posición específica del tablero si es válido.
+     *
+     * @param row Fila donde se coloca el número
+     * @param col Columna donde se coloca el número
+     * @param num Número a colocar
+     * @return true si el número fue colocado, false si no es válido o la celda no es editable
+     */
+    public boolean placeNumber(int row, int col, int num) {
+        if (!isValidPosition(row, col) || !editable[row * size + col]) {
+            return false;
+        }
+
+        // Si el número es 0, significa borrar la celda
+        if (num == 0) {
+            beginWrite();
+            cells[row * size + col] = 0;
+            return true;
+        }
+
+        // Asegura que el número esté dentro del rango del tablero
+        if (num < 1 || num > size) {
+            return false;
+        }
+
+        // Verificar si es válido colocar este número
+        // Usa el método isValidPlacement() para verificar las reglas del Sudoku
+        // Si es válido, coloca el número
+        //Retorna true si se pudo colocar
+        if (isValidPlacement(row, col, num)) {
+            beginWrite();
+            cells[row * size + col] = num;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Verifica si una posición está dentro del tablero.
+     * Este método comprueba si las coordenadas de fila y columna
+     * corresponden a una posición válida dentro del tablero.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida, false en caso contrario
+     */
+    private boolean isValidPosition(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+
+    /**
+     * Proporciona un número válido para una celda vacía como ayuda.(la pista)
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Un número válido para esa celda, o 0 si no hay celdas vacías o no es posible
+     */
+    public int getHint(int row, int col) {
+        HintEvent event = new HintEvent();
+        event.begin();
+        long start = METRICS.startTimer();
+
+        int hint = findHint(row, col);
+
+        HINT_LATENCY.recordSince(start);
+        if (event.shouldCommit()) {
+            event.row = row;
+            event.col = col;
+            event.value = hint;
+            event.commit();
+        }
+        return hint;
+    }
+
+    /**
+     * Busca el número de la solución para una celda vacía. Si el tablero no
+     * tiene solución, da el primer número que no choca con las reglas.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Un número válido para esa celda, o 0 si no es posible
+     */
+    private int findHint(int row, int col) { // verifica estas tres condiciones
+        int cell = row * size + col;
+        if (!isValidPosition(row, col) || !editable[cell] || cells[cell] != 0) {
+            return 0;
+        }
+
+        int[] solved = currentSolution();
+        if (solved != null) {
+            return solved[cell];
+        }
+
+        // Probar cada número del 1 al tamaño del tablero a ver cual se puede colocar
+        for (int num = 1; num <= size; num++) {
+            if (compiled.isValidPlacement(cells, cell, num)) {
+                return num;
+            }
+        }
+
+        return 0; // No se encontró un número válido
+    }
+
+    /**
+     * Obtiene una solución del tablero con el portafolio de resolvedores.
+     * Si el jugador puso un número que deja el tablero sin solución, se
+     * resuelve desde los números iniciales.
+     *
+     * @return Solución que respeta los números iniciales, o null si no hay
+     */
+    private int[] currentSolution() {
+        if (solution != null && agreesWith(solution)) {
+            return solution;
+        }
+        SolverPortfolio.Result result = SharedPortfolio.INSTANCE.solve(compiled, cells);
+        if (!result.isSolved()) {
+            int[] clues = new int[cells.length];
+            for (int cell = 0; cell < cells.length; cell++) {
+                clues[cell] = editable[cell] ? 0 : cells[cell];
+            }
+            result = SharedPortfolio.INSTANCE.solve(compiled, clues);
+        }
+        solution = result.solution();
+        return solution;
+    }
+
+    /**
+     * Indica si una solución coincide con todos los números puestos en el tablero.
+     *
+     * @param candidate Solución en orden plano
+     * @return true si cada celda con número tiene el mismo número en la solución
+     */
+    private boolean agreesWith(int[] candidate) {
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] != 0 && cells[cell] != candidate[cell]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si el tablero está completo y correcto.
+     * Las filas, columnas, regiones y jaulas se validan con máscaras de bits
+     * sobre las unidades precalculadas.
+     *
+     * @return true si el juego está completo, false en caso contrario
+     */
+    public boolean isGameComplete() {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        long start = METRICS.startTimer();
+
+        boolean complete = compiled.isComplete(cells);
+
+        VALIDATION_LATENCY.recordSince(start);
+        if (event.shouldCommit()) {
+            event.size = size;
+            event.complete = complete;
+            event.commit();
+        }
+        return complete;
+    }
+
+    /**
+     * Obtiene el valor de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return El valor de la celda, o 0 si está vacía o la posición es inválida
+     */
+    public int getCellValue(int row, int col) {
+        if (isValidPosition(row, col)) {
+            return cells[row * size + col];
+        }
+        return 0;
+    }
+
+    /**
+     * Verifica si una celda es editable.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return true si la celda es editable, false en caso contrario
+     */
+    public boolean isCellEditable(int row, int col) {
+        if (isValidPosition(row, col)) {
+            return editable[row * size + col];
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene el tamaño del tablero según las reglas.
+     *
+     * @return Tamaño del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtiene la banda de dificultad del juego actual.
+     *
+     * @return Banda con la que se generó el juego, o null si se generó sin banda o se cargó de afuera
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Obtiene las reglas de la variante.
+     *
+     * @return Reglas del tablero
+     */
+    public SudokuRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Obtiene las reglas compiladas en tablas de vecinos y unidades.
+     *
+     * @return Reglas compiladas
+     */
+    public CompiledRules getCompiledRules() {
+        return compiled;
+    }
+
+    /**
+     * Portafolio de resolvedores compartido por todos los tableros. Se crea la
+     * primera vez que se pide una ayuda o se valida un tablero importado.
+     */
+    private static final class SharedPortfolio {
+
+        /** Portafolio con las estrategias por defecto */
+        static final SolverPortfolio INSTANCE = new SolverPortfolio();
+    }
+}
@@ -0,0 +1,30 @@
+package model.batch;
+
+/**
+ * Valida lotes de tableros empaquetados.
+ * Para cada tablero escribe en {@code results} uno de los códigos
+ * {@link #INVALID}, {@link #INCOMPLETE} o {@link #COMPLETE}.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public interface BatchValidator {
+
+    /** El tablero tiene números repetidos en alguna unidad, una jaula con suma incorrecta o un valor fuera de 0..tamaño */
+    byte INVALID = 0;
+
+    /** El tablero es válido pero tiene celdas vacías */
+    byte INCOMPLETE = 1;
+
+    /** El tablero está lleno y es válido */
+    byte COMPLETE = 2;
+
+    /**
+     * Valida todos los tableros de un lote.
+     *
+     * @param batch Lote de tableros
+     * @param results Arreglo donde se escribe el resultado de cada tablero (al menos {@code batch.size()})
+     */
+    void validate(PackedBoardBatch batch, byte[] results);
+}
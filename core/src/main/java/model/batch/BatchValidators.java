@@ -0,0 +1,55 @@
+package model.batch;
+
+/**
+ * Fábrica de validadores de lotes.
+ * Usa la versión con vectores si el módulo {@code jdk.incubator.vector} está
+ * cargado (la aplicación se ejecuta con {@code --add-modules jdk.incubator.vector})
+ * y la versión escalar en caso contrario.
+ * La propiedad de sistema {@code sudoku.vector=false} obliga a usar la versión escalar.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class BatchValidators {
+
+    /** Nombre del módulo de la API de vectores */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Constructor privado, clase de utilidades.
+     */
+    private BatchValidators() {
+    }
+
+    /**
+     * Crea el validador más rápido disponible en esta JVM.
+     *
+     * @return Validador de lotes
+     */
+    public static BatchValidator create() {
+        if (isVectorAvailable()) {
+            return new VectorBatchValidator();
+        }
+        return scalar();
+    }
+
+    /**
+     * Crea el validador escalar.
+     *
+     * @return Validador escalar
+     */
+    public static BatchValidator scalar() {
+        return new ScalarBatchValidator();
+    }
+
+    /**
+     * Indica si se puede usar la API de vectores.
+     *
+     * @return true si el módulo de vectores está disponible y no fue desactivado
+     */
+    public static boolean isVectorAvailable() {
+        return Boolean.parseBoolean(System.getProperty("sudoku.vector", "true"))
+                && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+}
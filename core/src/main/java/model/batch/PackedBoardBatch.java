@@ -0,0 +1,189 @@
+package model.batch;
+
+import model.SudokuBoard;
+import model.rules.CompiledRules;
+
+import java.util.Arrays;
+
+/**
+ * Lote de tableros empaquetados para validarlos en bloque.
+ * Los valores se guardan en un byte por celda, por celda y luego por tablero
+ * ({@code values[celda * capacidad + tablero]}), de modo que la misma celda
+ * de tableros consecutivos queda contigua en memoria y se puede cargar
+ * directamente en los carriles de un vector. Un byte alcanza porque el tamaño
+ * máximo es {@link CompiledRules#MAX_SIZE}; un valor fuera de rango que no cabe
+ * en un byte se guarda como -1 o 127, que siguen fuera de rango.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class PackedBoardBatch {
+
+    /** Múltiplo al que se redondea la capacidad para que los vectores nunca se salgan del arreglo */
+    private static final int LANE_PADDING = 64;
+
+    /** Reglas compiladas de los tableros del lote */
+    private final CompiledRules rules;
+
+    /** Capacidad del lote (número máximo de tableros) */
+    private final int capacity;
+
+    /** Valores de las celdas, por celda y luego por tablero */
+    private final byte[] values;
+
+    /** Número de tableros cargados */
+    private int count;
+
+    /**
+     * Constructor que crea un lote vacío.
+     *
+     * @param rules Reglas compiladas de los tableros
+     * @param capacity Número de tableros que puede contener
+     */
+    public PackedBoardBatch(CompiledRules rules, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacidad inválida: " + capacity);
+        }
+        this.rules = rules;
+        this.capacity = (capacity + LANE_PADDING - 1) / LANE_PADDING * LANE_PADDING;
+        this.values = new byte[rules.getCellCount() * this.capacity];
+    }
+
+    /**
+     * Agrega un tablero al lote.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @return Índice del tablero dentro del lote
+     */
+    public int add(int[] cells) {
+        if (cells.length != rules.getCellCount()) {
+            throw new IllegalArgumentException("Se esperaban " + rules.getCellCount() + " celdas, hay " + cells.length);
+        }
+        int board = nextIndex();
+        for (int cell = 0; cell < cells.length; cell++) {
+            values[cell * capacity + board] = pack(cells[cell]);
+        }
+        return board;
+    }
+
+    /**
+     * Agrega el estado actual de un tablero del juego al lote.
+     *
+     * @param board Tablero del juego
+     * @return Índice del tablero dentro del lote
+     */
+    public int add(SudokuBoard board) {
+        int size = rules.getSize();
+        if (board.getSize() != size) {
+            throw new IllegalArgumentException("El tablero no tiene tamaño " + size);
+        }
+        int index = nextIndex();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                values[(row * size + col) * capacity + index] = pack(board.getCellValue(row, col));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Reserva el siguiente índice libre del lote.
+     *
+     * @return Índice reservado
+     */
+    private int nextIndex() {
+        if (count >= capacity) {
+            throw new IllegalStateException("El lote está lleno (" + capacity + " tableros)");
+        }
+        return count++;
+    }
+
+    /**
+     * Modifica una celda de un tablero del lote.
+     *
+     * @param board Índice del tablero
+     * @param cell Índice plano de la celda
+     * @param value Valor de la celda (0 = vacía)
+     */
+    public void set(int board, int cell, int value) {
+        values[cell * capacity + board] = pack(value);
+    }
+
+    /**
+     * Obtiene una celda de un tablero del lote.
+     *
+     * @param board Índice del tablero
+     * @param cell Índice plano de la celda
+     * @return Valor de la celda (0 = vacía)
+     */
+    public int get(int board, int cell) {
+        return values[cell * capacity + board];
+    }
+
+    /**
+     * Copia un tablero del lote a un arreglo en orden plano.
+     *
+     * @param board Índice del tablero
+     * @param cells Arreglo donde se copian los valores (al menos una posición por celda)
+     */
+    public void copyTo(int board, int[] cells) {
+        for (int cell = 0; cell < rules.getCellCount(); cell++) {
+            cells[cell] = values[cell * capacity + board];
+        }
+    }
+
+    /**
+     * Convierte un valor al byte que se guarda, llevando los que no caben a un valor que sigue fuera de rango.
+     *
+     * @param value Valor de la celda
+     * @return Byte guardado
+     */
+    private static byte pack(int value) {
+        return (byte) Math.max(-1, Math.min(value, Byte.MAX_VALUE));
+    }
+
+    /**
+     * Vacía el lote para reutilizarlo sin volver a reservar memoria.
+     */
+    public void clear() {
+        Arrays.fill(values, (byte) 0);
+        count = 0;
+    }
+
+    /**
+     * Obtiene el número de tableros cargados.
+     *
+     * @return Número de tableros
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Obtiene la capacidad del lote, redondeada al múltiplo de carriles.
+     *
+     * @return Capacidad del lote
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Obtiene las reglas compiladas del lote.
+     *
+     * @return Reglas compiladas
+     */
+    public CompiledRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Obtiene el arreglo interno de valores. Uso exclusivo de los validadores.
+     *
+     * @return Arreglo de valores por celda y luego por tablero
+     */
+    byte[] values() {
+        return values;
+    }
+}
@@ -0,0 +1,77 @@
+package model.batch;
+
+import model.rules.CompiledRules;
+
+/**
+ * Validador escalar de lotes, usado cuando la API de vectores no está disponible.
+ * Recorre las unidades de cada tablero con máscaras de bits, sin reservar memoria.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class ScalarBatchValidator implements BatchValidator {
+
+    @Override
+    public void validate(PackedBoardBatch batch, byte[] results) {
+        CompiledRules rules = batch.getRules();
+        byte[] values = batch.values();
+        int capacity = batch.getCapacity();
+        int[][] units = rules.getUnits();
+        int[][] cages = rules.getCageCells();
+        int[] cageSums = rules.getCageSums();
+        int cellCount = rules.getCellCount();
+        int size = rules.getSize();
+
+        for (int board = 0; board < batch.size(); board++) {
+            results[board] = validateBoard(values, capacity, board, units, cages, cageSums, cellCount, size);
+        }
+    }
+
+    /**
+     * Valida un tablero del lote.
+     *
+     * @return Código del resultado
+     */
+    private static byte validateBoard(byte[] values, int capacity, int board, int[][] units,
+                                      int[][] cages, int[] cageSums, int cellCount, int size) {
+        // Verificar que cada valor esté entre 0 y el tamaño; fuera de ese rango
+        // el desplazamiento de la máscara daría un bit de otro número
+        boolean empty = false;
+        for (int cell = 0; cell < cellCount; cell++) {
+            int num = values[cell * capacity + board];
+            if (num < 0 || num > size) {
+                return INVALID;
+            }
+            empty |= num == 0;
+        }
+
+        // Verificar cada unidad: ningún número repetido
+        for (int[] unit : units) {
+            int seen = 0;
+            for (int cell : unit) {
+                int bit = (1 << values[cell * capacity + board]) & ~1;
+                if ((seen & bit) != 0) {
+                    return INVALID;
+                }
+                seen |= bit;
+            }
+        }
+
+        // Verificar la suma de cada jaula
+        for (int cage = 0; cage < cages.length; cage++) {
+            int sum = 0;
+            boolean full = true;
+            for (int cell : cages[cage]) {
+                int num = values[cell * capacity + board];
+                sum += num;
+                full &= num != 0;
+            }
+            if (full ? sum != cageSums[cage] : sum >= cageSums[cage]) {
+                return INVALID;
+            }
+        }
+
+        return empty ? INCOMPLETE : COMPLETE;
+    }
+}
@@ -0,0 +1,118 @@
+package model.batch;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import model.rules.CompiledRules;
+
+/**
+ * Validador de lotes con la API de vectores ({@code jdk.incubator.vector}).
+ * Cada carril del vector procesa un tablero distinto: se recorren las
+ * unidades una sola vez para todos los tableros del grupo, acumulando en
+ * máscaras de bits los números vistos y los repetidos.
+ * Los valores se cargan en carriles de un byte y se amplían a enteros por
+ * partes, porque las máscaras necesitan un bit por número.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class VectorBatchValidator implements BatchValidator {
+
+    /** Especie de vector de enteros preferida por la plataforma */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /** Especie de vector de bytes de la misma forma; cada carga cubre varias partes de enteros */
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public void validate(PackedBoardBatch batch, byte[] results) {
+        CompiledRules rules = batch.getRules();
+        byte[] values = batch.values();
+        int capacity = batch.getCapacity();
+        int[][] units = rules.getUnits();
+        int[][] cages = rules.getCageCells();
+        int[] cageSums = rules.getCageSums();
+        int cellCount = rules.getCellCount();
+        int size = rules.getSize();
+        int lanes = SPECIES.length();
+        int parts = BYTES.length() / lanes;
+
+        IntVector zero = IntVector.zero(SPECIES);
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        IntVector valueBits = IntVector.broadcast(SPECIES, ~1);
+
+        // La capacidad es múltiplo del número de carriles de bytes, así que nunca se lee fuera del arreglo
+        for (int base = 0; base < batch.size(); base += BYTES.length()) {
+            for (int part = 0; part < parts && base + part * lanes < batch.size(); part++) {
+                IntVector conflicts = zero;
+
+                // Verificar cada unidad: un bit repetido marca conflicto en ese carril
+                for (int[] unit : units) {
+                    IntVector seen = zero;
+                    for (int cell : unit) {
+                        IntVector bits = one.lanewise(VectorOperators.LSHL, load(values, cell * capacity + base, part))
+                                .and(valueBits);
+                        conflicts = conflicts.or(seen.and(bits));
+                        seen = seen.or(bits);
+                    }
+                }
+                VectorMask<Integer> invalid = conflicts.compare(VectorOperators.NE, 0);
+
+                // Verificar la suma de cada jaula
+                for (int cage = 0; cage < cages.length; cage++) {
+                    IntVector sum = zero;
+                    IntVector min = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+                    for (int cell : cages[cage]) {
+                        IntVector v = load(values, cell * capacity + base, part);
+                        sum = sum.add(v);
+                        min = min.min(v);
+                    }
+                    VectorMask<Integer> full = min.compare(VectorOperators.NE, 0);
+                    VectorMask<Integer> wrongFull = full.and(sum.compare(VectorOperators.NE, cageSums[cage]));
+                    VectorMask<Integer> overPartial = full.not().and(sum.compare(VectorOperators.GE, cageSums[cage]));
+                    invalid = invalid.or(wrongFull).or(overPartial);
+                }
+
+                // Un mínimo de 0 significa que el tablero tiene celdas vacías; un valor fuera
+                // de 0..tamaño es inválido, porque su bit en la máscara sería el de otro número
+                IntVector min = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+                IntVector max = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+                for (int cell = 0; cell < cellCount; cell++) {
+                    IntVector v = load(values, cell * capacity + base, part);
+                    min = min.min(v);
+                    max = max.max(v);
+                }
+                VectorMask<Integer> incomplete = min.compare(VectorOperators.EQ, 0);
+                invalid = invalid.or(min.compare(VectorOperators.LT, 0)).or(max.compare(VectorOperators.GT, size));
+
+                int first = base + part * lanes;
+                int end = Math.min(lanes, batch.size() - first);
+                for (int lane = 0; lane < end; lane++) {
+                    if (invalid.laneIsSet(lane)) {
+                        results[first + lane] = INVALID;
+                    } else if (incomplete.laneIsSet(lane)) {
+                        results[first + lane] = INCOMPLETE;
+                    } else {
+                        results[first + lane] = COMPLETE;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Carga los bytes de una celda para un grupo de tableros y amplía una parte a enteros.
+     *
+     * @param values Valores del lote
+     * @param offset Posición de la celda del primer tablero del grupo
+     * @param part Parte de los carriles de bytes que se amplía
+     * @return Valores de la celda, un tablero por carril
+     */
+    private static IntVector load(byte[] values, int offset, int part) {
+        return (IntVector) ByteVector.fromArray(BYTES, values, offset)
+                .convertShape(VectorOperators.B2I, SPECIES, part);
+    }
+}
@@ -0,0 +1,91 @@
+package model.generator;
+
+/**
+ * Bandas de dificultad que se le pueden pedir al generador.
+ * Cada banda fija qué técnicas se permiten y qué proporción de pistas
+ * debe tener el tablero; así la misma banda sirve para 6x6 y para 9x9.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public enum Difficulty {
+    /** Muchas pistas y solo celdas con un candidato */
+    EASY(Technique.NAKED_SINGLES, Technique.NAKED_SINGLES, 0.45, 1.0),
+    /** Menos pistas, a veces con un single oculto */
+    MEDIUM(Technique.NAKED_SINGLES, Technique.HIDDEN_SINGLES, 0.35, 0.50),
+    /** Pocas pistas y singles ocultos obligatorios */
+    HARD(Technique.HIDDEN_SINGLES, Technique.HIDDEN_SINGLES, 0.28, 0.40),
+    /** Los singles no bastan para terminarlo */
+    EXPERT(Technique.GUESSING, Technique.GUESSING, 0.0, 0.35);
+
+    /** Técnica mínima que debe exigir el tablero */
+    private final Technique minTechnique;
+
+    /** Técnica máxima que puede exigir el tablero */
+    private final Technique maxTechnique;
+
+    /** Proporción mínima de pistas respecto al total de celdas */
+    private final double minClueRatio;
+
+    /** Proporción máxima de pistas respecto al total de celdas */
+    private final double maxClueRatio;
+
+    Difficulty(Technique minTechnique, Technique maxTechnique, double minClueRatio, double maxClueRatio) {
+        this.minTechnique = minTechnique;
+        this.maxTechnique = maxTechnique;
+        this.minClueRatio = minClueRatio;
+        this.maxClueRatio = maxClueRatio;
+    }
+
+    /**
+     * Obtiene la técnica mínima de la banda.
+     *
+     * @return Técnica mínima
+     */
+    public Technique getMinTechnique() {
+        return minTechnique;
+    }
+
+    /**
+     * Obtiene la técnica máxima de la banda.
+     *
+     * @return Técnica máxima
+     */
+    public Technique getMaxTechnique() {
+        return maxTechnique;
+    }
+
+    /**
+     * Calcula el menor número de pistas de la banda para un tablero.
+     *
+     * @param cellCount Número de celdas del tablero
+     * @return Mínimo de pistas
+     */
+    public int minClues(int cellCount) {
+        return (int) Math.ceil(minClueRatio * cellCount);
+    }
+
+    /**
+     * Calcula el mayor número de pistas de la banda para un tablero.
+     *
+     * @param cellCount Número de celdas del tablero
+     * @return Máximo de pistas
+     */
+    public int maxClues(int cellCount) {
+        return (int) Math.floor(maxClueRatio * cellCount);
+    }
+
+    /**
+     * Verifica si una calificación está dentro de la banda.
+     *
+     * @param technique Técnica que exige el tablero
+     * @param clues Número de pistas del tablero
+     * @param cellCount Número de celdas del tablero
+     * @return true si el tablero pertenece a la banda
+     */
+    public boolean accepts(Technique technique, int clues, int cellCount) {
+        return technique.compareTo(minTechnique) >= 0 && technique.compareTo(maxTechnique) <= 0
+                && clues >= minClues(cellCount) && clues <= maxClues(cellCount);
+    }
+}
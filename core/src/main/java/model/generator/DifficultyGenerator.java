@@ -0,0 +1,249 @@
+package model.generator;
+
+import model.batch.BatchValidator;
+import model.batch.BatchValidators;
+import model.batch.PackedBoardBatch;
+import model.io.PuzzleSink;
+import model.metrics.Counter;
+import model.metrics.LatencyHistogram;
+import model.metrics.MetricsRegistry;
+import model.rules.CompiledRules;
+import model.solver.BacktrackingSolver;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Genera tableros con solución única dentro de una banda de dificultad.
+ * Cada candidato parte de una solución completa al azar y va quitando pistas
+ * en orden aleatorio. Una pista solo se quita si el tablero sigue teniendo
+ * solución única y si la calificación no se pasa de la banda; como la
+ * calificación nunca baja al quitar pistas, un camino que se pasa se descarta
+ * en ese momento. Si ni quitando todas las pistas que faltan por probar se
+ * podría bajar al máximo de la banda, el candidato se abandona sin terminar.
+ * Por el otro extremo de la banda no se poda: la única cota que da la
+ * calificación parcial es la del tablero con solo las pistas mantenidas, y ese
+ * tablero coincide con el final en cuanto se probaron todas las pistas, así que
+ * la cota solo corta el último paso y calificarla en cada paso cuesta más de lo
+ * que ahorra. Un candidato por debajo de la técnica mínima se descarta al final.
+ * Los candidatos se reparten entre los hilos de un {@link ForkJoinPool} que
+ * comparten la cuota. Cada hilo junta sus tableros aceptados en un
+ * {@link PackedBoardBatch} y los pasa por el validador de lotes antes de
+ * entregarlos, así que llegan al receptor en bloques de hasta
+ * 64; un tablero que no pasara sería un error del
+ * generador, y se descarta en lugar de entregarse.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class DifficultyGenerator {
+
+    /** Métricas de la generación por dificultad */
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram CANDIDATE_LATENCY = METRICS.histogram("generator.candidate");
+    private static final Counter ACCEPTED = METRICS.counter("generator.accepted");
+    private static final Counter ABANDONED = METRICS.counter("generator.abandoned");
+
+    /** Tableros aceptados que no pasaron la validación por lotes */
+    private static final Counter REJECTED = METRICS.counter("generator.rejected");
+
+    /** Tableros aceptados que cada hilo valida juntos antes de entregarlos */
+    private static final int VALIDATION_BATCH = 64;
+
+    /** Reglas compiladas de la variante */
+    private final CompiledRules rules;
+
+    /** Hilos donde corren los candidatos */
+    private final ForkJoinPool pool;
+
+    /** Verifica la unicidad cuando la calificación no la garantiza */
+    private final BacktrackingSolver solver = new BacktrackingSolver();
+
+    /** Valida los tableros aceptados antes de entregarlos */
+    private final BatchValidator validator = BatchValidators.create();
+
+    /**
+     * Constructor que usa el pool común.
+     *
+     * @param rules Reglas compiladas de la variante
+     */
+    public DifficultyGenerator(CompiledRules rules) {
+        this(rules, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor que usa un pool dado.
+     *
+     * @param rules Reglas compiladas de la variante
+     * @param pool Hilos donde corren los candidatos
+     */
+    public DifficultyGenerator(CompiledRules rules, ForkJoinPool pool) {
+        if (rules.hasCages()) {
+            throw new IllegalArgumentException("El generador no soporta jaulas Killer");
+        }
+        this.rules = rules;
+        this.pool = pool;
+    }
+
+    /**
+     * Empieza a generar tableros en segundo plano. Los tableros aceptados se
+     * entregan al receptor de uno en uno, desde los hilos del pool.
+     *
+     * @param difficulty Banda de dificultad pedida
+     * @param count Número de tableros pedidos
+     * @param sink Receptor de los tableros (valores en orden plano, 0 = vacía)
+     * @return Control para esperar, detener o consultar el avance
+     */
+    public GenerationHandle generate(Difficulty difficulty, int count, PuzzleSink sink) {
+        int workers = Math.max(1, pool.getParallelism());
+        GenerationHandle handle = new GenerationHandle(count, sink, workers);
+        for (int i = 0; i < workers; i++) {
+            pool.execute(() -> {
+                try {
+                    work(difficulty, handle);
+                } finally {
+                    handle.workerFinished();
+                }
+            });
+        }
+        return handle;
+    }
+
+    /**
+     * Genera un solo tablero en el hilo actual, reintentando hasta lograrlo.
+     *
+     * @param difficulty Banda de dificultad pedida
+     * @param random Generador de números aleatorios
+     * @return Valores del tablero en orden plano (0 = vacía)
+     */
+    public int[] generateOne(Difficulty difficulty, Random random) {
+        int[] puzzle = null;
+        while (puzzle == null) {
+            puzzle = candidate(difficulty, random, () -> false);
+        }
+        return puzzle;
+    }
+
+    /**
+     * Bucle de un hilo: genera candidatos hasta llenar la cuota o hasta que se detenga.
+     *
+     * @param difficulty Banda de dificultad
+     * @param handle Control compartido de la generación
+     */
+    private void work(Difficulty difficulty, GenerationHandle handle) {
+        Random random = ThreadLocalRandom.current();
+        PackedBoardBatch pending = new PackedBoardBatch(rules, VALIDATION_BATCH);
+        byte[] results = new byte[pending.getCapacity()];
+        int[] cells = new int[rules.getCellCount()];
+        while (!handle.shouldStop()) {
+            long start = METRICS.startTimer();
+            int[] puzzle = candidate(difficulty, random, handle::shouldStop);
+            CANDIDATE_LATENCY.recordSince(start);
+
+            handle.countCandidate(puzzle == null);
+            if (puzzle != null) {
+                ACCEPTED.increment();
+                if (handle.reserve()) {
+                    pending.add(puzzle);
+                    if (pending.size() == pending.getCapacity()) {
+                        deliver(pending, results, cells, handle);
+                    }
+                }
+            } else {
+                ABANDONED.increment();
+            }
+        }
+        deliver(pending, results, cells, handle);
+    }
+
+    /**
+     * Valida los tableros pendientes de un hilo y entrega los válidos.
+     *
+     * @param pending Tableros aceptados con su lugar reservado
+     * @param results Resultado de cada tablero del lote
+     * @param cells Arreglo que se reutiliza para entregar cada tablero
+     * @param handle Control compartido de la generación
+     */
+    private void deliver(PackedBoardBatch pending, byte[] results, int[] cells, GenerationHandle handle) {
+        validator.validate(pending, results);
+        for (int board = 0; board < pending.size(); board++) {
+            if (results[board] == BatchValidator.INVALID) {
+                REJECTED.increment();
+                handle.release();
+            } else {
+                pending.copyTo(board, cells);
+                handle.deliver(cells);
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Construye un candidato.
+     *
+     * @param difficulty Banda de dificultad
+     * @param random Generador de números aleatorios
+     * @param stop Condición de parada
+     * @return Tablero dentro de la banda, o null si se abandonó
+     */
+    private int[] candidate(Difficulty difficulty, Random random, BooleanSupplier stop) {
+        int cellCount = rules.getCellCount();
+        int minClues = difficulty.minClues(cellCount);
+        int maxClues = difficulty.maxClues(cellCount);
+        Technique maxTechnique = difficulty.getMaxTechnique();
+
+        int[] puzzle = SolutionGrids.random(rules, random);
+
+        int[] order = shuffledCells(cellCount, random);
+        int clues = cellCount;
+        for (int i = 0; i < cellCount && clues > minClues; i++) {
+            // Aunque se quitaran todas las pistas que faltan por probar, no se llegaría a la banda
+            if (clues - (cellCount - i) > maxClues || stop.getAsBoolean()) {
+                return null;
+            }
+
+            int cell = order[i];
+            int value = puzzle[cell];
+            puzzle[cell] = 0;
+
+            Technique technique = DifficultyRater.rate(rules, puzzle);
+            boolean keep = technique.compareTo(maxTechnique) > 0;
+            // Si los singles llenan el tablero, la solución ya es única
+            if (!keep && technique == Technique.GUESSING) {
+                keep = solver.countSolutions(rules, puzzle, 2) != 1;
+            }
+
+            if (keep) {
+                puzzle[cell] = value;
+            } else {
+                clues--;
+            }
+        }
+
+        return difficulty.accepts(DifficultyRater.rate(rules, puzzle), clues, cellCount) ? puzzle : null;
+    }
+
+    /**
+     * Crea el orden aleatorio en que se intenta quitar cada pista.
+     *
+     * @param cellCount Número de celdas
+     * @param random Generador de números aleatorios
+     * @return Índices de celda mezclados
+     */
+    private static int[] shuffledCells(int cellCount, Random random) {
+        int[] order = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            order[i] = i;
+        }
+        for (int i = cellCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+}
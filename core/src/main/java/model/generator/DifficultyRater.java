@@ -0,0 +1,45 @@
+package model.generator;
+
+import model.rules.CompiledRules;
+import model.solver.PropagationSolver;
+import model.solver.PropagationSolver.State;
+
+/**
+ * Califica la dificultad de un tablero según la técnica más avanzada que hace
+ * falta para resolverlo. Primero intenta solo con celdas de un candidato; si se
+ * queda sin deducciones, sigue con los singles ocultos; si tampoco termina,
+ * el tablero exige adivinar.
+ * La calificación es monótona: quitar una pista nunca hace el tablero más fácil,
+ * y el generador aprovecha eso para descartar caminos en cuanto se pasan de la banda.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class DifficultyRater {
+
+    /**
+     * Constructor privado, clase de utilidades.
+     */
+    private DifficultyRater() {
+    }
+
+    /**
+     * Califica un tablero.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía); no se modifica
+     * @return Técnica más avanzada que se necesita
+     */
+    public static Technique rate(CompiledRules rules, int[] cells) {
+        int[] work = cells.clone();
+        if (PropagationSolver.propagate(rules, work, false, () -> false) == State.SOLVED) {
+            return Technique.NAKED_SINGLES;
+        }
+        // Se sigue desde donde quedaron los naked singles
+        if (PropagationSolver.propagate(rules, work, true, () -> false) == State.SOLVED) {
+            return Technique.HIDDEN_SINGLES;
+        }
+        return Technique.GUESSING;
+    }
+}
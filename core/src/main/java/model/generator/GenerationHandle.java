@@ -0,0 +1,182 @@
+package model.generator;
+
+import model.io.PuzzleSink;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Control de una generación en curso.
+ * Los hilos del generador comparten aquí la cuota de tableros: cada tablero
+ * aceptado reserva un lugar con una operación atómica y, si todavía cabe, se
+ * guarda hasta que se valida con los demás de su lote. Los válidos se entregan
+ * al receptor y los que no liberan su lugar. La generación se puede detener en
+ * cualquier momento; los tableros ya reservados se validan y se entregan igual.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class GenerationHandle {
+
+    /** Número de tableros pedidos */
+    private final int quota;
+
+    /** Receptor de los tableros aceptados */
+    private final PuzzleSink sink;
+
+    /** Lugares reservados de la cuota, entregados o pendientes de validar */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /** Tableros entregados al receptor */
+    private final AtomicInteger delivered = new AtomicInteger();
+
+    /** Indica si se pidió detener la generación */
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    /** Candidatos generados, aceptados o no */
+    private final LongAdder candidates = new LongAdder();
+
+    /** Candidatos abandonados antes de terminar de quitar pistas */
+    private final LongAdder abandoned = new LongAdder();
+
+    /** Hilos que siguen trabajando */
+    private final CountDownLatch running;
+
+    /**
+     * Constructor que prepara el control de una generación.
+     *
+     * @param quota Número de tableros pedidos
+     * @param sink Receptor de los tableros aceptados
+     * @param workers Número de hilos que van a trabajar
+     */
+    GenerationHandle(int quota, PuzzleSink sink, int workers) {
+        this.quota = quota;
+        this.sink = sink;
+        this.running = new CountDownLatch(workers);
+    }
+
+    /**
+     * Indica si los hilos deben dejar de generar.
+     *
+     * @return true si se detuvo la generación o ya se llenó la cuota
+     */
+    boolean shouldStop() {
+        return stopped.get() || reserved.get() >= quota;
+    }
+
+    /**
+     * Reserva un lugar de la cuota para un tablero aceptado.
+     *
+     * @return true si quedaba lugar y la generación no se detuvo
+     */
+    boolean reserve() {
+        return !stopped.get() && reserved.getAndUpdate(n -> n < quota ? n + 1 : n) < quota;
+    }
+
+    /**
+     * Libera el lugar de un tablero que no pasó la validación.
+     */
+    void release() {
+        reserved.decrementAndGet();
+    }
+
+    /**
+     * Entrega un tablero validado que ya tiene su lugar reservado.
+     * Las entregas se hacen de una en una, así que el receptor no necesita ser seguro entre hilos.
+     *
+     * @param puzzle Tablero validado
+     */
+    void deliver(int[] puzzle) {
+        synchronized (sink) {
+            sink.accept(puzzle);
+        }
+        delivered.incrementAndGet();
+    }
+
+    /**
+     * Cuenta un candidato generado.
+     *
+     * @param wasAbandoned true si se abandonó antes de terminar
+     */
+    void countCandidate(boolean wasAbandoned) {
+        candidates.increment();
+        if (wasAbandoned) {
+            abandoned.increment();
+        }
+    }
+
+    /**
+     * Marca que un hilo terminó.
+     */
+    void workerFinished() {
+        running.countDown();
+    }
+
+    /**
+     * Pide detener la generación. Los hilos terminan el candidato que tienen entre manos y se detienen.
+     */
+    public void stop() {
+        stopped.set(true);
+    }
+
+    /**
+     * Espera a que todos los hilos terminen.
+     *
+     * @throws InterruptedException Si se interrumpe la espera
+     */
+    public void await() throws InterruptedException {
+        running.await();
+    }
+
+    /**
+     * Espera a que todos los hilos terminen, como máximo el tiempo dado.
+     *
+     * @param timeout Tiempo máximo de espera
+     * @param unit Unidad del tiempo
+     * @return true si terminaron, false si se acabó el tiempo
+     * @throws InterruptedException Si se interrumpe la espera
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return running.await(timeout, unit);
+    }
+
+    /**
+     * Indica si la generación terminó.
+     *
+     * @return true si ningún hilo sigue trabajando
+     */
+    public boolean isDone() {
+        return running.getCount() == 0;
+    }
+
+    /**
+     * Obtiene el número de tableros entregados hasta ahora.
+     *
+     * @return Tableros entregados
+     */
+    public int getAccepted() {
+        return delivered.get();
+    }
+
+    /**
+     * Obtiene el número de candidatos generados.
+     *
+     * @return Candidatos generados
+     */
+    public long getCandidates() {
+        return candidates.sum();
+    }
+
+    /**
+     * Obtiene el número de candidatos abandonados antes de terminar.
+     *
+     * @return Candidatos abandonados
+     */
+    public long getAbandoned() {
+        return abandoned.sum();
+    }
+}
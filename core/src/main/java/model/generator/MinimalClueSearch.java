@@ -0,0 +1,657 @@
+package model.generator;
+
+import model.rules.ClassicRules;
+import model.rules.CompiledRules;
+import model.solver.BacktrackingSolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Modo de investigación que busca tableros con solución única y el menor número de pistas.
+ * Para una solución dada, un tablero tiene solución única solo si sus pistas tocan
+ * todos los conjuntos inevitables de esa solución, así que la búsqueda elige
+ * pistas que cubran esos conjuntos (un problema de conjunto de impacto). Cuando
+ * las pistas elegidas cubren todos los conjuntos conocidos pero el tablero tiene
+ * otra solución, la diferencia entre ambas es un conjunto inevitable nuevo que se
+ * agrega y poda el resto de la búsqueda.
+ * Las primeras ramas se reparten entre los hilos de un {@link ForkJoinPool} y el
+ * avance se guarda en un archivo para poder reanudar una búsqueda larga.
+ * En 6x6 se pueden recorrer todas las soluciones con la primera fila fija y así
+ * demostrar el mínimo; en 9x9 se revisan soluciones al azar.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class MinimalClueSearch {
+
+    /** Soluciones alternativas que se piden al sembrar los conjuntos inevitables */
+    private static final int SEED_SOLUTIONS = 256;
+
+    /** Niveles de la búsqueda que se reparten como tareas independientes */
+    private static final int SPLIT_DEPTH = 2;
+
+    /** Cada cuántos nodos se consulta la condición de parada */
+    private static final int STOP_CHECK_INTERVAL = 256;
+
+    /** Reglas compiladas de la variante */
+    private final CompiledRules rules;
+
+    /** Hilos donde corren las ramas */
+    private final ForkJoinPool pool;
+
+    /**
+     * Resultado de una búsqueda.
+     *
+     * @param puzzle Tablero con menos pistas encontrado, o null
+     * @param clues Número de pistas de ese tablero, o 0
+     * @param grids Soluciones revisadas por completo
+     * @param complete true si se revisaron todas las soluciones pedidas sin detenerse
+     */
+    public record Result(int[] puzzle, int clues, long grids, boolean complete) {
+    }
+
+    /**
+     * Constructor que usa el pool común.
+     *
+     * @param rules Reglas compiladas de la variante
+     */
+    public MinimalClueSearch(CompiledRules rules) {
+        this(rules, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor que usa un pool dado.
+     *
+     * @param rules Reglas compiladas de la variante
+     * @param pool Hilos donde corren las ramas
+     */
+    public MinimalClueSearch(CompiledRules rules, ForkJoinPool pool) {
+        if (rules.hasCages()) {
+            throw new IllegalArgumentException("La búsqueda de mínimos no soporta jaulas Killer");
+        }
+        this.rules = rules;
+        this.pool = pool;
+    }
+
+    /**
+     * Busca el tablero con menos pistas de una sola solución.
+     *
+     * @param grid Solución completa en orden plano
+     * @param checkpoint Archivo de avance, o null para no guardar
+     * @param stop Condición de parada
+     * @return Resultado con el tablero mínimo de esa solución
+     * @throws IOException Si el archivo de avance no se puede leer o escribir
+     */
+    public Result searchGrid(int[] grid, Path checkpoint, BooleanSupplier stop) throws IOException {
+        if (!rules.isComplete(grid)) {
+            throw new IllegalArgumentException("La solución no está completa o no cumple las reglas");
+        }
+        SearchCheckpoint progress = SearchCheckpoint.load(checkpoint, key("grid"));
+        boolean complete;
+        try {
+            complete = progress.nextGrid > 0 || minimize(grid, progress, stop);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (complete && progress.nextGrid == 0) {
+            progress.advance(1);
+            progress.save();
+        }
+        return result(progress, complete);
+    }
+
+    /**
+     * Recorre todas las soluciones con la primera fila fija y busca el mínimo de pistas
+     * de toda la variante. Si termina sin detenerse, el mínimo queda demostrado.
+     * Solo es práctico en tableros pequeños como el 6x6.
+     *
+     * @param checkpoint Archivo de avance, o null para no guardar
+     * @param stop Condición de parada
+     * @return Resultado con el mejor tablero encontrado
+     * @throws IOException Si el archivo de avance no se puede leer o escribir
+     */
+    public Result searchAllGrids(Path checkpoint, BooleanSupplier stop) throws IOException {
+        SearchCheckpoint progress = SearchCheckpoint.load(checkpoint, key("all"));
+        long start = progress.nextGrid;
+        long[] index = {0};
+        boolean[] stopped = {false};
+
+        try {
+            SolutionGrids.forEachWithFixedFirstRow(rules, () -> stopped[0], grid -> {
+                // El recorrido solo revisa la parada cada tantos nodos; las soluciones
+                // que lleguen después no deben tocar el avance de la solución detenida
+                if (stopped[0]) {
+                    return;
+                }
+                if (index[0]++ < start) {
+                    return;
+                }
+                if (minimize(grid.clone(), progress, stop)) {
+                    progress.advance(index[0]);
+                    saveIfDue(progress);
+                } else {
+                    stopped[0] = true;
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        progress.save();
+        return result(progress, !stopped[0]);
+    }
+
+    /**
+     * Revisa soluciones al azar, siempre las mismas para una semilla dada, y
+     * busca el mínimo de pistas entre ellas. Sirve para tableros donde no se
+     * pueden recorrer todas las soluciones, como el 9x9.
+     *
+     * @param count Número de soluciones que se revisan
+     * @param seed Semilla de las soluciones
+     * @param checkpoint Archivo de avance, o null para no guardar
+     * @param stop Condición de parada
+     * @return Resultado con el mejor tablero encontrado
+     * @throws IOException Si el archivo de avance no se puede leer o escribir
+     */
+    public Result searchRandomGrids(long count, long seed, Path checkpoint, BooleanSupplier stop)
+            throws IOException {
+        SearchCheckpoint progress = SearchCheckpoint.load(checkpoint, key("random-" + seed));
+        try {
+            for (long index = progress.nextGrid; index < count; index++) {
+                int[] grid = SolutionGrids.random(rules, new Random(seed + index));
+                if (!minimize(grid, progress, stop)) {
+                    progress.save();
+                    return result(progress, false);
+                }
+                progress.advance(index + 1);
+                saveIfDue(progress);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        progress.save();
+        return result(progress, true);
+    }
+
+    /**
+     * Busca en una solución tableros con menos pistas que el mejor conocido,
+     * bajando el objetivo cada vez que encuentra uno.
+     *
+     * @param grid Solución completa
+     * @param progress Avance de la búsqueda, se actualiza
+     * @param stop Condición de parada
+     * @return true si se terminó de revisar la solución, false si se detuvo
+     * @throws UncheckedIOException Si el avance no se puede guardar
+     */
+    private boolean minimize(int[] grid, SearchCheckpoint progress, BooleanSupplier stop) {
+        UnavoidableSets sets = seed(grid);
+        long[][] seedSets = sets.snapshot();
+        long[] none = sets.emptyMask();
+
+        // Cada conjunto disjunto necesita su propia pista; además deben aparecer casi todos los números
+        int lowerBound = Math.max(rules.getSize() - 1, disjointBound(seedSets, none, none));
+
+        int target = progress.target > 0 ? progress.target
+                : progress.best > 0 ? progress.best - 1 : rules.getCellCount();
+        while (target >= lowerBound) {
+            if (progress.target != target) {
+                progress.target = target;
+                progress.done.clear();
+            }
+            AtomicReference<int[]> found = new AtomicReference<>();
+            if (!searchTarget(grid, sets, seedSets, target, found, progress, stop)) {
+                return false;
+            }
+            int[] puzzle = found.get();
+            if (puzzle == null) {
+                break;
+            }
+            int clues = countClues(puzzle);
+            if (progress.best == 0 || clues < progress.best) {
+                progress.best = clues;
+                progress.puzzle = puzzle;
+            }
+            target = clues - 1;
+            progress.target = 0;
+            save(progress);
+        }
+        return true;
+    }
+
+    /**
+     * Busca un tablero de la solución con como máximo {@code target} pistas,
+     * repartiendo las primeras ramas entre los hilos del pool.
+     *
+     * @param grid Solución completa
+     * @param sets Conjuntos inevitables conocidos, se amplía durante la búsqueda
+     * @param seedSets Conjuntos iniciales; fijan las ramas para que sean las mismas al reanudar
+     * @param target Máximo de pistas
+     * @param found Recibe el tablero encontrado
+     * @param progress Avance, para saltar las ramas terminadas y anotar las nuevas
+     * @param stop Condición de parada
+     * @return true si la búsqueda terminó (con o sin tablero), false si se detuvo
+     */
+    private boolean searchTarget(int[] grid, UnavoidableSets sets, long[][] seedSets, int target,
+                                 AtomicReference<int[]> found, SearchCheckpoint progress, BooleanSupplier stop) {
+        List<long[][]> branches = new ArrayList<>();
+        long[] none = sets.emptyMask();
+        split(seedSets, none, none, 0, target, branches);
+
+        List<ForkJoinTask<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < branches.size(); i++) {
+            if (progress.done.get(i)) {
+                continue;
+            }
+            int branch = i;
+            long[][] start = branches.get(i);
+            tasks.add(pool.submit(() -> {
+                Branch search = new Branch(grid, sets, target, found, stop);
+                boolean finished = search.run(start[0], start[1]);
+                if (finished && found.get() == null) {
+                    progress.branchDone(branch);
+                    // Así una búsqueda larga que se mata conserva las ramas terminadas
+                    saveIfDue(progress);
+                }
+                return finished;
+            }));
+        }
+
+        boolean finished = true;
+        for (ForkJoinTask<Boolean> task : tasks) {
+            finished &= task.join();
+        }
+        return finished || found.get() != null;
+    }
+
+    /**
+     * Reparte los primeros niveles de la búsqueda en ramas independientes.
+     * Usa solo los conjuntos iniciales, así el reparto es siempre el mismo.
+     *
+     * @param seedSets Conjuntos iniciales
+     * @param chosen Celdas elegidas como pista
+     * @param dead Celdas descartadas
+     * @param depth Nivel actual
+     * @param target Máximo de pistas
+     * @param branches Recibe cada rama como {elegidas, descartadas}
+     */
+    private void split(long[][] seedSets, long[] chosen, long[] dead, int depth, int target, List<long[][]> branches) {
+        long[] best = depth < SPLIT_DEPTH && depth < target ? smallestUnhit(seedSets, chosen, dead) : null;
+        if (best == null) {
+            branches.add(new long[][]{chosen.clone(), dead.clone()});
+            return;
+        }
+        long[] localDead = dead.clone();
+        for (int cell = nextCell(best, localDead, 0); cell >= 0; cell = nextCell(best, localDead, cell + 1)) {
+            chosen[cell >>> 6] |= 1L << cell;
+            split(seedSets, chosen, localDead, depth + 1, target, branches);
+            chosen[cell >>> 6] &= ~(1L << cell);
+            localDead[cell >>> 6] |= 1L << cell;
+        }
+    }
+
+    /**
+     * Siembra los conjuntos inevitables de una solución: para cada par de números
+     * se vacían sus celdas y cada forma distinta de volver a llenarlas da un conjunto.
+     *
+     * @param grid Solución completa
+     * @return Conjuntos inevitables iniciales
+     */
+    private UnavoidableSets seed(int[] grid) {
+        UnavoidableSets sets = new UnavoidableSets(grid.length);
+        BacktrackingSolver solver = new BacktrackingSolver();
+        int size = rules.getSize();
+        for (int a = 1; a <= size; a++) {
+            for (int b = a + 1; b <= size; b++) {
+                int[] cells = grid.clone();
+                for (int cell = 0; cell < cells.length; cell++) {
+                    if (cells[cell] == a || cells[cell] == b) {
+                        cells[cell] = 0;
+                    }
+                }
+                solver.forEachSolution(rules, cells, SEED_SOLUTIONS, () -> false,
+                        solution -> sets.addDifference(grid, solution));
+            }
+        }
+        return sets;
+    }
+
+    /**
+     * Busca el conjunto sin pista con menos celdas disponibles.
+     *
+     * @param sets Conjuntos
+     * @param chosen Celdas elegidas como pista
+     * @param dead Celdas descartadas
+     * @return El conjunto, o null si todos tienen pista
+     */
+    private static long[] smallestUnhit(long[][] sets, long[] chosen, long[] dead) {
+        long[] best = null;
+        int bestCount = Integer.MAX_VALUE;
+        for (long[] set : sets) {
+            if (UnavoidableSets.intersects(set, chosen)) {
+                continue;
+            }
+            int available = availableCount(set, dead);
+            if (available < bestCount) {
+                best = set;
+                bestCount = available;
+                if (available <= 1) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Cota inferior de pistas que faltan: cuenta conjuntos sin pista que no
+     * comparten celdas disponibles, porque cada uno necesita una pista distinta.
+     *
+     * @param sets Conjuntos
+     * @param chosen Celdas elegidas como pista
+     * @param dead Celdas descartadas
+     * @return Número de conjuntos disjuntos encontrados
+     */
+    private static int disjointBound(long[][] sets, long[] chosen, long[] dead) {
+        long[] used = new long[chosen.length];
+        int count = 0;
+        for (long[] set : sets) {
+            if (UnavoidableSets.intersects(set, chosen)) {
+                continue;
+            }
+            boolean disjoint = true;
+            for (int i = 0; i < set.length; i++) {
+                if ((set[i] & ~dead[i] & used[i]) != 0) {
+                    disjoint = false;
+                    break;
+                }
+            }
+            if (disjoint) {
+                for (int i = 0; i < set.length; i++) {
+                    used[i] |= set[i] & ~dead[i];
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Cuenta las celdas de un conjunto que no están descartadas.
+     *
+     * @param set Conjunto
+     * @param dead Celdas descartadas
+     * @return Celdas disponibles
+     */
+    private static int availableCount(long[] set, long[] dead) {
+        int count = 0;
+        for (int i = 0; i < set.length; i++) {
+            count += Long.bitCount(set[i] & ~dead[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Busca la siguiente celda disponible de un conjunto.
+     *
+     * @param set Conjunto
+     * @param dead Celdas descartadas
+     * @param from Primera celda a considerar
+     * @return Índice de la celda, o -1 si no hay más
+     */
+    private static int nextCell(long[] set, long[] dead, int from) {
+        for (int word = from >>> 6; word < set.length; word++) {
+            long bits = set[word] & ~dead[word];
+            if (word == from >>> 6) {
+                bits &= -1L << (from & 63);
+            }
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cuenta las pistas de un tablero.
+     *
+     * @param puzzle Tablero en orden plano (0 = vacía)
+     * @return Número de celdas con número
+     */
+    private static int countClues(int[] puzzle) {
+        int clues = 0;
+        for (int value : puzzle) {
+            if (value != 0) {
+                clues++;
+            }
+        }
+        return clues;
+    }
+
+    /**
+     * Guarda el avance desde dentro de la búsqueda, donde no se pueden lanzar excepciones comprobadas.
+     *
+     * @param progress Avance de la búsqueda
+     * @throws UncheckedIOException Si el archivo no se puede escribir
+     */
+    private static void save(SearchCheckpoint progress) {
+        try {
+            progress.save();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el avance de la búsqueda", e);
+        }
+    }
+
+    /**
+     * Guarda el avance si ya pasó el intervalo mínimo desde la última escritura.
+     *
+     * @param progress Avance de la búsqueda
+     * @throws UncheckedIOException Si el archivo no se puede escribir
+     */
+    private static void saveIfDue(SearchCheckpoint progress) {
+        try {
+            progress.saveIfDue();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el avance de la búsqueda", e);
+        }
+    }
+
+    /**
+     * Arma el resultado a partir del avance.
+     *
+     * @param progress Avance de la búsqueda
+     * @param complete true si la búsqueda terminó sin detenerse
+     * @return Resultado de la búsqueda
+     */
+    private Result result(SearchCheckpoint progress, boolean complete) {
+        return new Result(progress.puzzle, progress.best, progress.nextGrid, complete);
+    }
+
+    /**
+     * Identifica una búsqueda por su modo y la variante, para no reanudar con el avance de otra.
+     *
+     * @param mode Modo de la búsqueda
+     * @return Identificador que se guarda en el archivo de avance
+     */
+    private String key(String mode) {
+        return mode + "/" + rules.getSize() + "/" + rules.getCellCount() + "/" + rules.getSource().getClass().getSimpleName();
+    }
+
+    /**
+     * Búsqueda de una rama: elige pistas hasta cubrir todos los conjuntos y
+     * verifica la unicidad del tablero resultante.
+     */
+    private final class Branch {
+
+        /** Solución completa */
+        private final int[] grid;
+
+        /** Conjuntos inevitables, compartidos con las demás ramas */
+        private final UnavoidableSets sets;
+
+        /** Máximo de pistas */
+        private final int target;
+
+        /** Tablero encontrado por cualquier rama */
+        private final AtomicReference<int[]> found;
+
+        /** Condición de parada */
+        private final BooleanSupplier stop;
+
+        /** Verifica la unicidad de los tableros candidatos */
+        private final BacktrackingSolver solver = new BacktrackingSolver();
+
+        /** Nodos visitados */
+        private long nodes;
+
+        /** Indica si la rama se detuvo por la condición de parada */
+        private boolean stopped;
+
+        Branch(int[] grid, UnavoidableSets sets, int target, AtomicReference<int[]> found, BooleanSupplier stop) {
+            this.grid = grid;
+            this.sets = sets;
+            this.target = target;
+            this.found = found;
+            this.stop = stop;
+        }
+
+        /**
+         * Recorre la rama.
+         *
+         * @param chosen Celdas elegidas como pista al empezar
+         * @param dead Celdas descartadas al empezar
+         * @return true si la rama terminó, false si se detuvo
+         */
+        boolean run(long[] chosen, long[] dead) {
+            search(chosen, UnavoidableSets.bitCount(chosen), dead);
+            return !stopped;
+        }
+
+        /**
+         * Busca recursivamente.
+         *
+         * @return true si hay que terminar la búsqueda
+         */
+        private boolean search(long[] chosen, int count, long[] dead) {
+            if (found.get() != null) {
+                return true;
+            }
+            if ((++nodes % STOP_CHECK_INTERVAL) == 0 && stop.getAsBoolean()) {
+                stopped = true;
+                return true;
+            }
+
+            long[][] snapshot;
+            long[] best;
+            while (true) {
+                snapshot = sets.snapshot();
+                best = smallestUnhit(snapshot, chosen, dead);
+                if (best != null) {
+                    break;
+                }
+                // Todos los conjuntos conocidos tienen pista: ver si la solución es única
+                int[] puzzle = puzzleOf(chosen);
+                int[] other = alternateSolution(puzzle);
+                if (other == null) {
+                    found.compareAndSet(null, puzzle);
+                    return true;
+                }
+                sets.addDifference(grid, other);
+            }
+
+            if (count >= target || availableCount(best, dead) == 0) {
+                return false;
+            }
+            if (count + disjointBound(snapshot, chosen, dead) > target) {
+                return false;
+            }
+
+            long[] localDead = dead.clone();
+            for (int cell = nextCell(best, localDead, 0); cell >= 0; cell = nextCell(best, localDead, cell + 1)) {
+                chosen[cell >>> 6] |= 1L << cell;
+                boolean done = search(chosen, count + 1, localDead);
+                chosen[cell >>> 6] &= ~(1L << cell);
+                if (done) {
+                    return true;
+                }
+                localDead[cell >>> 6] |= 1L << cell;
+            }
+            return false;
+        }
+
+        /**
+         * Arma el tablero con las pistas elegidas, tomando los números de la solución.
+         *
+         * @param chosen Celdas elegidas como pista
+         * @return Tablero en orden plano (0 = vacía)
+         */
+        private int[] puzzleOf(long[] chosen) {
+            int[] puzzle = new int[grid.length];
+            for (int cell = 0; cell < grid.length; cell++) {
+                if ((chosen[cell >>> 6] & (1L << cell)) != 0) {
+                    puzzle[cell] = grid[cell];
+                }
+            }
+            return puzzle;
+        }
+
+        /**
+         * Busca una solución de las pistas distinta de la solución de referencia.
+         *
+         * @param puzzle Pistas
+         * @return Otra solución, o null si la solución es única
+         */
+        private int[] alternateSolution(int[] puzzle) {
+            int[][] other = new int[1][];
+            solver.forEachSolution(rules, puzzle, 2, () -> false, solution -> {
+                if (other[0] == null && !Arrays.equals(solution, grid)) {
+                    other[0] = solution.clone();
+                }
+            });
+            return other[0];
+        }
+    }
+
+    /**
+     * Ejecuta la búsqueda desde la línea de comandos.
+     * Argumentos: {@code <filas>x<columnas> <archivo de avance> [soluciones al azar] [semilla]}.
+     * Sin número de soluciones recorre todas (para demostrar el mínimo en 6x6).
+     *
+     * @param args Argumentos de la línea de comandos
+     * @throws IOException Si el archivo de avance no se puede leer o escribir
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: MinimalClueSearch <filas>x<columnas> <archivo de avance> [soluciones] [semilla]");
+            System.exit(2);
+        }
+        String[] blocks = args[0].split("x");
+        CompiledRules rules = new ClassicRules(Integer.parseInt(blocks[0]), Integer.parseInt(blocks[1])).compile();
+        MinimalClueSearch search = new MinimalClueSearch(rules);
+        Path checkpoint = Path.of(args[1]);
+
+        Result result = args.length > 2
+                ? search.searchRandomGrids(Long.parseLong(args[2]), args.length > 3 ? Long.parseLong(args[3]) : 0,
+                        checkpoint, () -> false)
+                : search.searchAllGrids(checkpoint, () -> false);
+
+        System.out.println("Soluciones revisadas: " + result.grids());
+        System.out.println("Mínimo de pistas: " + result.clues() + (result.complete() && args.length == 2 ? " (demostrado)" : ""));
+        if (result.puzzle() != null) {
+            StringBuilder line = new StringBuilder();
+            for (int value : result.puzzle()) {
+                line.append(value == 0 ? '.' : Character.forDigit(value, 36));
+            }
+            System.out.println(line);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package model.generator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.BitSet;
+import java.util.Properties;
+
+/**
+ * Avance guardado de una búsqueda de pistas mínimas, para poder reanudarla.
+ * Guarda la siguiente solución por revisar, el mejor tablero encontrado y, para
+ * la solución en curso, qué ramas de la búsqueda ya se terminaron con el objetivo actual.
+ * Se escribe en un archivo temporal que luego reemplaza al anterior, así una
+ * interrupción a mitad de la escritura no deja el archivo dañado.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class SearchCheckpoint {
+
+    /** Tiempo mínimo entre dos escrituras que no son obligatorias */
+    private static final long SAVE_INTERVAL_NANOS = 1_000_000_000L;
+
+    /** Archivo donde se guarda, o null si la búsqueda no se guarda */
+    private final Path file;
+
+    /** Identifica el tipo de búsqueda y la variante */
+    private final String key;
+
+    /** Índice de la siguiente solución por revisar */
+    long nextGrid;
+
+    /** Menor número de pistas encontrado, o 0 si todavía no hay */
+    int best;
+
+    /** Tablero con menos pistas encontrado, o null */
+    int[] puzzle;
+
+    /** Número de pistas que se busca en la solución en curso, o 0 */
+    int target;
+
+    /** Ramas ya terminadas de la solución en curso con el objetivo actual */
+    final BitSet done = new BitSet();
+
+    /** Instante de la última escritura */
+    private long lastSave = System.nanoTime();
+
+    /**
+     * Constructor que crea un avance vacío.
+     *
+     * @param file Archivo de avance, o null para no guardar
+     * @param key Identificador de la búsqueda
+     */
+    private SearchCheckpoint(Path file, String key) {
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     * Carga el avance de un archivo, o empieza de cero si no existe.
+     *
+     * @param file Archivo de avance, o null para no guardar
+     * @param key Identificador de la búsqueda
+     * @return Avance cargado
+     * @throws IOException Si el archivo no se puede leer
+     * @throws IllegalArgumentException Si el archivo es de otra búsqueda
+     */
+    static SearchCheckpoint load(Path file, String key) throws IOException {
+        SearchCheckpoint checkpoint = new SearchCheckpoint(file, key);
+        if (file == null || !Files.exists(file)) {
+            return checkpoint;
+        }
+
+        Properties properties = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(in);
+        }
+        if (!key.equals(properties.getProperty("search"))) {
+            throw new IllegalArgumentException("El archivo de avance es de otra búsqueda: " + file);
+        }
+        checkpoint.nextGrid = Long.parseLong(properties.getProperty("grid.next", "0"));
+        checkpoint.best = Integer.parseInt(properties.getProperty("best", "0"));
+        checkpoint.target = Integer.parseInt(properties.getProperty("grid.target", "0"));
+        String puzzle = properties.getProperty("puzzle", "");
+        if (!puzzle.isEmpty()) {
+            String[] values = puzzle.split(",");
+            checkpoint.puzzle = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                checkpoint.puzzle[i] = Integer.parseInt(values[i]);
+            }
+        }
+        for (String branch : properties.getProperty("grid.done", "").split(",")) {
+            if (!branch.isEmpty()) {
+                checkpoint.done.set(Integer.parseInt(branch));
+            }
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Pasa a la siguiente solución y olvida las ramas de la anterior.
+     *
+     * @param index Índice de la siguiente solución
+     */
+    void advance(long index) {
+        nextGrid = index;
+        target = 0;
+        done.clear();
+    }
+
+    /**
+     * Anota una rama terminada; las ramas las terminan varios hilos a la vez.
+     *
+     * @param branch Índice de la rama
+     */
+    synchronized void branchDone(int branch) {
+        done.set(branch);
+    }
+
+    /**
+     * Guarda el avance si pasó suficiente tiempo desde la última escritura,
+     * para que las búsquedas rápidas no pasen más tiempo escribiendo que buscando.
+     *
+     * @throws IOException Si el archivo no se puede escribir
+     */
+    synchronized void saveIfDue() throws IOException {
+        if (System.nanoTime() - lastSave >= SAVE_INTERVAL_NANOS) {
+            save();
+        }
+    }
+
+    /**
+     * Guarda el avance, si la búsqueda tiene archivo.
+     *
+     * @throws IOException Si el archivo no se puede escribir
+     */
+    synchronized void save() throws IOException {
+        if (file == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.setProperty("search", key);
+        properties.setProperty("grid.next", Long.toString(nextGrid));
+        properties.setProperty("grid.target", Integer.toString(target));
+        properties.setProperty("best", Integer.toString(best));
+
+        StringBuilder branches = new StringBuilder();
+        for (int branch = done.nextSetBit(0); branch >= 0; branch = done.nextSetBit(branch + 1)) {
+            if (branches.length() > 0) {
+                branches.append(',');
+            }
+            branches.append(branch);
+        }
+        properties.setProperty("grid.done", branches.toString());
+
+        StringBuilder values = new StringBuilder();
+        if (puzzle != null) {
+            for (int i = 0; i < puzzle.length; i++) {
+                if (i > 0) {
+                    values.append(',');
+                }
+                values.append(puzzle[i]);
+            }
+        }
+        properties.setProperty("puzzle", values.toString());
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(out, "Busqueda de pistas minimas");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        lastSave = System.nanoTime();
+    }
+}
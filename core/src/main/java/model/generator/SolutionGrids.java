@@ -0,0 +1,113 @@
+package model.generator;
+
+import model.rules.CompiledRules;
+import model.solver.BacktrackingSolver;
+
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Fuentes de soluciones completas para el generador y la búsqueda de mínimos.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class SolutionGrids {
+
+    /**
+     * Constructor privado, clase de utilidades.
+     */
+    private SolutionGrids() {
+    }
+
+    /**
+     * Crea una solución completa al azar.
+     *
+     * @param rules Reglas compiladas de la variante
+     * @param random Generador de números aleatorios
+     * @return Valores de la solución en orden plano
+     */
+    public static int[] random(CompiledRules rules, Random random) {
+        int[] grid = new int[rules.getCellCount()];
+        if (!fill(rules, grid, 0, random)) {
+            throw new IllegalArgumentException("Las reglas no tienen ninguna solución completa");
+        }
+        return grid;
+    }
+
+    /**
+     * Recorre todas las soluciones cuya primera fila es 1, 2, ..., tamaño, siempre en el mismo orden.
+     * Cualquier solución se convierte en una de estas cambiando el nombre de los números,
+     * y ese cambio no altera cuántas pistas necesita un tablero, así que basta con
+     * recorrerlas para cubrir todas las soluciones de la variante.
+     *
+     * @param rules Reglas compiladas de la variante
+     * @param stop Condición de parada
+     * @param consumer Receptor de cada solución; el arreglo se reutiliza
+     * @return Número de soluciones recorridas
+     */
+    public static long forEachWithFixedFirstRow(CompiledRules rules, BooleanSupplier stop, Consumer<int[]> consumer) {
+        int size = rules.getSize();
+        int[] cells = new int[rules.getCellCount()];
+        for (int col = 0; col < size; col++) {
+            cells[col] = col + 1;
+        }
+        return new BacktrackingSolver().forEachSolution(rules, cells, Long.MAX_VALUE, stop, consumer);
+    }
+
+    /**
+     * Llena el tablero con una solución completa al azar, con retroceso.
+     *
+     * @param rules Reglas compiladas
+     * @param work Valores del tablero que se van llenando
+     * @param filled Número de celdas ya llenas
+     * @param random Generador de números aleatorios
+     * @return true si se llenó el tablero
+     */
+    private static boolean fill(CompiledRules rules, int[] work, int filled, Random random) {
+        if (filled == work.length) {
+            return true;
+        }
+
+        // La celda vacía con menos candidatos
+        int full = rules.fullMask();
+        int best = -1;
+        int bestCandidates = 0;
+        int bestCount = Integer.MAX_VALUE;
+        for (int cell = 0; cell < work.length; cell++) {
+            if (work[cell] != 0) {
+                continue;
+            }
+            int candidates = full & ~rules.usedMask(work, cell);
+            int count = Integer.bitCount(candidates);
+            if (count < bestCount) {
+                best = cell;
+                bestCandidates = candidates;
+                bestCount = count;
+            }
+        }
+        if (bestCount == 0) {
+            return false;
+        }
+
+        // Probar los candidatos en orden aleatorio
+        while (bestCandidates != 0) {
+            int pick = random.nextInt(Integer.bitCount(bestCandidates));
+            int bit = bestCandidates;
+            for (int i = 0; i < pick; i++) {
+                bit &= bit - 1;
+            }
+            int num = Integer.numberOfTrailingZeros(bit);
+            bestCandidates &= ~(1 << num);
+
+            work[best] = num;
+            if (fill(rules, work, filled + 1, random)) {
+                return true;
+            }
+        }
+        work[best] = 0;
+        return false;
+    }
+}
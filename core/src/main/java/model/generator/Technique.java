@@ -0,0 +1,18 @@
+package model.generator;
+
+/**
+ * Técnica más avanzada que hace falta para resolver un tablero sin adivinar.
+ * El orden importa: cada técnica es más difícil que la anterior.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public enum Technique {
+    /** Basta con llenar las celdas que tienen un solo candidato */
+    NAKED_SINGLES,
+    /** Hace falta buscar números que solo caben en una celda de una fila, columna o región */
+    HIDDEN_SINGLES,
+    /** Los singles no alcanzan; hay que probar números y retroceder */
+    GUESSING
+}
@@ -0,0 +1,158 @@
+package model.generator;
+
+import java.util.Arrays;
+
+/**
+ * Conjuntos inevitables de una solución: grupos de celdas donde los números se
+ * pueden reacomodar y seguir cumpliendo las reglas. Todo tablero con solución
+ * única tiene al menos una pista en cada uno de ellos.
+ * Cada conjunto es una máscara de celdas en palabras de 64 bits. Los hilos de la
+ * búsqueda leen una copia publicada sin candados y los conjuntos nuevos se agregan
+ * con candado, conservando solo los mínimos y ordenados de menor a mayor.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class UnavoidableSets {
+
+    /** Número de palabras de 64 bits por máscara */
+    private final int words;
+
+    /** Conjuntos publicados, del más pequeño al más grande */
+    private volatile long[][] sets = new long[0][];
+
+    /**
+     * Constructor que prepara una colección vacía.
+     *
+     * @param cellCount Número de celdas del tablero
+     */
+    UnavoidableSets(int cellCount) {
+        this.words = (cellCount + 63) >>> 6;
+    }
+
+    /**
+     * Obtiene los conjuntos actuales. El arreglo devuelto no cambia nunca.
+     *
+     * @return Conjuntos del más pequeño al más grande
+     */
+    long[][] snapshot() {
+        return sets;
+    }
+
+    /**
+     * Crea una máscara vacía del tamaño adecuado.
+     *
+     * @return Máscara sin celdas
+     */
+    long[] emptyMask() {
+        return new long[words];
+    }
+
+    /**
+     * Agrega el conjunto de celdas donde dos soluciones difieren.
+     *
+     * @param grid Solución de referencia
+     * @param other Otra solución de las mismas pistas
+     * @return true si el conjunto era nuevo y mínimo
+     */
+    boolean addDifference(int[] grid, int[] other) {
+        long[] mask = emptyMask();
+        boolean any = false;
+        for (int cell = 0; cell < grid.length; cell++) {
+            if (grid[cell] != other[cell]) {
+                mask[cell >>> 6] |= 1L << cell;
+                any = true;
+            }
+        }
+        return any && add(mask);
+    }
+
+    /**
+     * Agrega un conjunto si ninguno de los actuales está contenido en él,
+     * y quita los que lo contienen.
+     *
+     * @param mask Celdas del conjunto
+     * @return true si se agregó
+     */
+    synchronized boolean add(long[] mask) {
+        long[][] current = sets;
+        int count = bitCount(mask);
+        int kept = 0;
+        long[][] next = new long[current.length + 1][];
+        boolean inserted = false;
+        for (long[] set : current) {
+            if (isSubset(set, mask)) {
+                return false;
+            }
+            if (isSubset(mask, set)) {
+                continue;
+            }
+            if (!inserted && bitCount(set) > count) {
+                next[kept++] = mask;
+                inserted = true;
+            }
+            next[kept++] = set;
+        }
+        if (!inserted) {
+            next[kept++] = mask;
+        }
+        sets = Arrays.copyOf(next, kept);
+        return true;
+    }
+
+    /**
+     * Obtiene el número de conjuntos.
+     *
+     * @return Conjuntos conocidos
+     */
+    int size() {
+        return sets.length;
+    }
+
+    /**
+     * Verifica si todas las celdas de a están en b.
+     *
+     * @param a Máscara contenida
+     * @param b Máscara contenedora
+     * @return true si a está contenida en b
+     */
+    static boolean isSubset(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if ((a[i] & ~b[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si dos máscaras tienen alguna celda en común.
+     *
+     * @param a Primera máscara
+     * @param b Segunda máscara
+     * @return true si se cruzan
+     */
+    static boolean intersects(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cuenta las celdas de una máscara.
+     *
+     * @param mask Máscara
+     * @return Número de celdas
+     */
+    static int bitCount(long[] mask) {
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
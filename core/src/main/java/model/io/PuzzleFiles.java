@@ -0,0 +1,174 @@
+package model.io;
+
+import model.rules.CompiledRules;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Lee y escribe archivos de tableros mapeándolos en memoria.
+ * Los archivos de un tablero por línea se recorren en ventanas que terminan
+ * en un salto de línea, así que no hay límite de tamaño.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class PuzzleFiles {
+
+    /** Tamaño de cada ventana mapeada */
+    private static final long WINDOW = 256L * 1024 * 1024;
+
+    /**
+     * Constructor privado, clase de utilidades.
+     */
+    private PuzzleFiles() {
+    }
+
+    /**
+     * Lee todos los tableros de un archivo. El formato se elige por la extensión.
+     *
+     * @param file Archivo a leer
+     * @param size Tamaño de los tableros
+     * @param sink Receptor de cada tablero (el arreglo se reutiliza)
+     * @return Número de tableros leídos
+     * @throws IOException Si ocurre un error de lectura
+     */
+    public static long read(Path file, int size, PuzzleSink sink) throws IOException {
+        return read(file, size, PuzzleFormat.fromFileName(file.getFileName().toString()), sink);
+    }
+
+    /**
+     * Lee todos los tableros de un archivo.
+     *
+     * @param file Archivo a leer
+     * @param size Tamaño de los tableros
+     * @param format Formato del archivo
+     * @param sink Receptor de cada tablero (el arreglo se reutiliza)
+     * @return Número de tableros leídos
+     * @throws IOException Si ocurre un error de lectura
+     */
+    public static long read(Path file, int size, PuzzleFormat format, PuzzleSink sink) throws IOException {
+        PuzzleReader reader = new PuzzleReader(size);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (format == PuzzleFormat.SDK) {
+                return reader.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), format, sink);
+            }
+
+            long count = 0;
+            long start = 0;
+            while (start < length) {
+                long windowSize = Math.min(WINDOW, length - start);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start, windowSize);
+
+                // La ventana termina después del último salto de línea, salvo al final del archivo
+                int end = (int) windowSize;
+                if (start + windowSize < length) {
+                    while (end > 0 && window.get(end - 1) != '\n') {
+                        end--;
+                    }
+                    if (end == 0) {
+                        throw new IOException("Línea demasiado larga en la posición " + start);
+                    }
+                }
+                count += reader.readLines(window, 0, end, sink);
+                start += end;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Lee los tableros de un archivo y entrega solo los que respetan las reglas.
+     * El formato se elige por la extensión.
+     *
+     * @param file Archivo a leer
+     * @param rules Reglas compiladas de los tableros
+     * @param sink Receptor de cada tablero válido (el arreglo se reutiliza)
+     * @return Número de tableros válidos
+     * @throws IOException Si ocurre un error de lectura
+     */
+    public static long readValid(Path file, CompiledRules rules, PuzzleSink sink) throws IOException {
+        return readValid(file, rules, PuzzleFormat.fromFileName(file.getFileName().toString()), sink);
+    }
+
+    /**
+     * Lee los tableros de un archivo y entrega solo los que respetan las reglas.
+     * Los tableros se validan por lotes con {@link ValidatingPuzzleSink}; los que
+     * tienen números repetidos, jaulas imposibles o valores fuera de rango se descartan.
+     *
+     * @param file Archivo a leer
+     * @param rules Reglas compiladas de los tableros
+     * @param format Formato del archivo
+     * @param sink Receptor de cada tablero válido (el arreglo se reutiliza)
+     * @return Número de tableros válidos
+     * @throws IOException Si ocurre un error de lectura
+     */
+    public static long readValid(Path file, CompiledRules rules, PuzzleFormat format, PuzzleSink sink)
+            throws IOException {
+        ValidatingPuzzleSink validating = new ValidatingPuzzleSink(rules, sink);
+        read(file, rules.getSize(), format, validating);
+        validating.flush();
+        return validating.getAccepted();
+    }
+
+    /**
+     * Escribe tableros en un archivo a través de un buffer directo, por bloques de 4096 tableros.
+     * El formato {@link PuzzleFormat#SDK} guarda un solo tablero, así que con más de uno
+     * se rechaza antes de tocar el archivo.
+     *
+     * @param file Archivo a escribir (se reemplaza)
+     * @param puzzles Tableros en orden plano
+     * @param size Tamaño de los tableros
+     * @param format Formato de salida
+     * @throws IOException Si ocurre un error de escritura
+     * @throws IllegalArgumentException Si se piden varios tableros en formato SDK
+     */
+    public static void write(Path file, Iterable<int[]> puzzles, int size, PuzzleFormat format) throws IOException {
+        if (format == PuzzleFormat.SDK) {
+            Iterator<int[]> it = puzzles.iterator();
+            if (it.hasNext()) {
+                int[] first = it.next();
+                if (it.hasNext()) {
+                    throw new IllegalArgumentException(
+                            "El formato SDK guarda un solo tablero; use LINE o SDM para varios");
+                }
+                puzzles = List.of(first);
+            }
+        }
+        int bytes = PuzzleWriter.bytesPerPuzzle(size, format);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes * 4096);
+            for (int[] puzzle : puzzles) {
+                if (buffer.remaining() < bytes) {
+                    flush(channel, buffer);
+                }
+                PuzzleWriter.write(puzzle, size, format, buffer);
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Escribe el contenido del buffer en el canal y lo vacía.
+     *
+     * @param channel Canal de salida
+     * @param buffer Buffer con datos
+     * @throws IOException Si ocurre un error de escritura
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,48 @@
+package model.io;
+
+import java.util.Locale;
+
+/**
+ * Formatos de intercambio de tableros soportados.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public enum PuzzleFormat {
+
+    /**
+     * Un tablero por línea (81 caracteres para 9x9, 36 para 6x6), con
+     * {@code .} o {@code 0} en las celdas vacías. Un archivo puede tener muchas líneas.
+     */
+    LINE,
+
+    /**
+     * Formato SadMan {@code .sdk}: un solo tablero escrito como cuadrícula,
+     * una fila por línea. Las líneas que empiezan con {@code #} o {@code [} son metadatos.
+     * Un archivo con más de un tablero se rechaza al leerlo y al escribirlo.
+     */
+    SDK,
+
+    /**
+     * Formato SadMan {@code .sdm}: colección de tableros, uno por línea.
+     */
+    SDM;
+
+    /**
+     * Elige el formato según la extensión de un archivo.
+     *
+     * @param fileName Nombre del archivo
+     * @return Formato correspondiente; {@link #LINE} si la extensión no es conocida
+     */
+    public static PuzzleFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".sdk")) {
+            return SDK;
+        }
+        if (lower.endsWith(".sdm")) {
+            return SDM;
+        }
+        return LINE;
+    }
+}
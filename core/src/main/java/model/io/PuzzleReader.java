@@ -0,0 +1,202 @@
+package model.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Lee tableros directamente de un {@link ByteBuffer} (por ejemplo un archivo
+ * mapeado en memoria) sin crear objetos {@code String} ni arreglos por línea:
+ * cada tablero se decodifica en un único arreglo de enteros que se reutiliza.
+ *
+ * Caracteres aceptados: {@code 1}-{@code 9} y luego {@code A}-{@code Z}
+ * (sin distinguir mayúsculas) para los números, {@code .} y {@code 0} para
+ * las celdas vacías. Los espacios, tabuladores y {@code |} se ignoran.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class PuzzleReader {
+
+    /** Marca de carácter que se ignora */
+    private static final int SKIP = -1;
+
+    /** Marca de carácter no válido */
+    private static final int INVALID = -2;
+
+    /** Tamaño de los tableros */
+    private final int size;
+
+    /** Arreglo reutilizado para cada tablero */
+    private final int[] cells;
+
+    /**
+     * Constructor que crea un lector.
+     *
+     * @param size Tamaño de los tableros (6 para 6x6, 9 para 9x9)
+     */
+    public PuzzleReader(int size) {
+        if (size < 1 || size > 35) {
+            throw new IllegalArgumentException("Tamaño no soportado: " + size);
+        }
+        this.size = size;
+        this.cells = new int[size * size];
+    }
+
+    /**
+     * Lee todos los tableros del buffer, desde su posición hasta su límite.
+     * La posición del buffer no se modifica.
+     *
+     * @param buffer Datos a leer
+     * @param format Formato de los datos
+     * @param sink Receptor de cada tablero
+     * @return Número de tableros leídos
+     */
+    public long read(ByteBuffer buffer, PuzzleFormat format, PuzzleSink sink) {
+        if (format == PuzzleFormat.SDK) {
+            int found = readGrid(buffer, buffer.position(), buffer.limit(), true);
+            if (found < cells.length) {
+                throw new IllegalArgumentException("El archivo no contiene un tablero de " + size + "x" + size);
+            }
+            if (found > cells.length) {
+                throw new IllegalArgumentException("El archivo tiene más de un tablero; el formato SDK guarda uno solo");
+            }
+            sink.accept(cells);
+            return 1;
+        }
+        return readLines(buffer, buffer.position(), buffer.limit(), sink);
+    }
+
+    /**
+     * Lee un tablero escrito en una línea o en varias (como al pegarlo desde el portapapeles).
+     *
+     * @param buffer Datos a leer
+     * @return Copia de los valores del tablero, o null si no hay suficientes celdas
+     */
+    public int[] readOne(ByteBuffer buffer) {
+        return readGrid(buffer, buffer.position(), buffer.limit(), false) == cells.length ? cells.clone() : null;
+    }
+
+    /**
+     * Lee un tablero por línea entre dos posiciones absolutas.
+     *
+     * @param buffer Datos a leer
+     * @param from Posición inicial
+     * @param to Posición final (exclusiva)
+     * @param sink Receptor de cada tablero
+     * @return Número de tableros leídos
+     */
+    long readLines(ByteBuffer buffer, int from, int to, PuzzleSink sink) {
+        long count = 0;
+        int pos = from;
+        while (pos < to) {
+            int end = pos;
+            while (end < to && buffer.get(end) != '\n') {
+                end++;
+            }
+            if (parseLine(buffer, pos, end)) {
+                sink.accept(cells);
+                count++;
+            }
+            pos = end + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Decodifica una línea con un tablero completo.
+     *
+     * @param buffer Datos
+     * @param from Inicio de la línea
+     * @param to Fin de la línea (exclusivo)
+     * @return true si la línea tenía un tablero, false si estaba vacía o era un comentario
+     */
+    private boolean parseLine(ByteBuffer buffer, int from, int to) {
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (n == 0 && (b == '#' || b == '[')) {
+                return false;
+            }
+            int value = decode(b);
+            if (value == SKIP) {
+                continue;
+            }
+            if (value == INVALID || n == cells.length) {
+                throw new IllegalArgumentException("Línea inválida en la posición " + from);
+            }
+            cells[n++] = value;
+        }
+        if (n == 0) {
+            return false;
+        }
+        if (n != cells.length) {
+            throw new IllegalArgumentException("Se esperaban " + cells.length + " celdas en la posición " + from + ", hay " + n);
+        }
+        return true;
+    }
+
+    /**
+     * Decodifica un tablero que puede ocupar varias líneas.
+     *
+     * @param buffer Datos
+     * @param from Posición inicial
+     * @param to Posición final (exclusiva)
+     * @param whole true para seguir contando las celdas que sobran después del tablero
+     * @return Número de celdas encontradas; solo las primeras se guardan
+     */
+    private int readGrid(ByteBuffer buffer, int from, int to, boolean whole) {
+        int n = 0;
+        boolean lineStart = true;
+        boolean comment = false;
+        for (int i = from; i < to && (whole || n < cells.length); i++) {
+            byte b = buffer.get(i);
+            if (b == '\n') {
+                lineStart = true;
+                comment = false;
+                continue;
+            }
+            if (lineStart && (b == '#' || b == '[')) {
+                comment = true;
+            }
+            lineStart = false;
+            if (comment) {
+                continue;
+            }
+            int value = decode(b);
+            if (value == INVALID) {
+                throw new IllegalArgumentException("Carácter inválido en la posición " + i);
+            }
+            if (value != SKIP) {
+                if (n < cells.length) {
+                    cells[n] = value;
+                }
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Decodifica un carácter.
+     *
+     * @param b Carácter en ASCII
+     * @return Valor de la celda, {@link #SKIP} o {@link #INVALID}
+     */
+    private int decode(byte b) {
+        int value;
+        if (b == '.' || b == '0') {
+            return 0;
+        } else if (b >= '1' && b <= '9') {
+            value = b - '0';
+        } else if (b >= 'A' && b <= 'Z') {
+            value = b - 'A' + 10;
+        } else if (b >= 'a' && b <= 'z') {
+            value = b - 'a' + 10;
+        } else if (b == ' ' || b == '\t' || b == '\r' || b == '|') {
+            return SKIP;
+        } else {
+            return INVALID;
+        }
+        return value <= size ? value : INVALID;
+    }
+}
@@ -0,0 +1,20 @@
+package model.io;
+
+/**
+ * Recibe los tableros leídos por {@link PuzzleReader} o creados por el generador.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface PuzzleSink {
+
+    /**
+     * Recibe un tablero. El arreglo se reutiliza para el siguiente tablero,
+     * así que se debe copiar si se necesita conservarlo.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     */
+    void accept(int[] cells);
+}
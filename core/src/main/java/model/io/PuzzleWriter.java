@@ -0,0 +1,79 @@
+package model.io;
+
+import model.SudokuBoard;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Escribe tableros directamente en un {@link ByteBuffer}, sin crear objetos {@code String}.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class PuzzleWriter {
+
+    /**
+     * Constructor privado, clase de utilidades.
+     */
+    private PuzzleWriter() {
+    }
+
+    /**
+     * Escribe un tablero.
+     * En {@link PuzzleFormat#LINE} y {@link PuzzleFormat#SDM} ocupa una línea;
+     * en {@link PuzzleFormat#SDK} una línea por fila.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @param size Tamaño del tablero
+     * @param format Formato de salida
+     * @param out Buffer de salida; necesita {@link #bytesPerPuzzle(int, PuzzleFormat)} bytes libres
+     */
+    public static void write(int[] cells, int size, PuzzleFormat format, ByteBuffer out) {
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                out.put(encode(cells[row * size + col]));
+            }
+            if (format == PuzzleFormat.SDK) {
+                out.put((byte) '\n');
+            }
+        }
+        if (format != PuzzleFormat.SDK) {
+            out.put((byte) '\n');
+        }
+    }
+
+    /**
+     * Obtiene cuántos bytes ocupa un tablero escrito.
+     *
+     * @param size Tamaño del tablero
+     * @param format Formato de salida
+     * @return Número de bytes
+     */
+    public static int bytesPerPuzzle(int size, PuzzleFormat format) {
+        return size * size + (format == PuzzleFormat.SDK ? size : 1);
+    }
+
+    /**
+     * Obtiene los números iniciales (celdas no editables) de un tablero del juego.
+     *
+     * @param board Tablero del juego
+     * @return Valores en orden plano, con 0 en las celdas editables
+     */
+    public static int[] cluesOf(SudokuBoard board) {
+        return board.snapshot().copyClues();
+    }
+
+    /**
+     * Codifica el valor de una celda como carácter.
+     *
+     * @param value Valor de la celda
+     * @return Carácter en ASCII
+     */
+    private static byte encode(int value) {
+        if (value == 0) {
+            return '.';
+        }
+        return (byte) (value <= 9 ? '0' + value : 'A' + value - 10);
+    }
+}
@@ -0,0 +1,100 @@
+package model.io;
+
+import model.batch.BatchValidator;
+import model.batch.BatchValidators;
+import model.batch.PackedBoardBatch;
+import model.rules.CompiledRules;
+
+/**
+ * Receptor que valida los tableros en lotes antes de entregarlos a otro.
+ * Los tableros se copian a un {@link PackedBoardBatch}; cuando el lote se
+ * llena se valida de una vez y solo los que no rompen las reglas pasan al
+ * receptor de destino, en el mismo orden en que llegaron. Al terminar hay que
+ * llamar a {@link #flush()} para entregar el último lote incompleto.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class ValidatingPuzzleSink implements PuzzleSink {
+
+    /** Tableros que se validan juntos */
+    private static final int BATCH_SIZE = 4096;
+
+    /** Receptor de los tableros válidos */
+    private final PuzzleSink target;
+
+    /** Validador del lote */
+    private final BatchValidator validator = BatchValidators.create();
+
+    /** Tableros pendientes de validar */
+    private final PackedBoardBatch batch;
+
+    /** Resultado de cada tablero del lote */
+    private final byte[] results;
+
+    /** Arreglo que se reutiliza para entregar cada tablero */
+    private final int[] cells;
+
+    /** Tableros entregados al receptor */
+    private long accepted;
+
+    /** Tableros descartados por romper las reglas */
+    private long rejected;
+
+    /**
+     * Constructor que envuelve un receptor.
+     *
+     * @param rules Reglas compiladas de los tableros
+     * @param target Receptor de los tableros válidos
+     */
+    public ValidatingPuzzleSink(CompiledRules rules, PuzzleSink target) {
+        this.target = target;
+        this.batch = new PackedBoardBatch(rules, BATCH_SIZE);
+        this.results = new byte[batch.getCapacity()];
+        this.cells = new int[rules.getCellCount()];
+    }
+
+    @Override
+    public void accept(int[] cells) {
+        batch.add(cells);
+        if (batch.size() == batch.getCapacity()) {
+            flush();
+        }
+    }
+
+    /**
+     * Valida los tableros pendientes y entrega los válidos.
+     */
+    public void flush() {
+        validator.validate(batch, results);
+        for (int board = 0; board < batch.size(); board++) {
+            if (results[board] == BatchValidator.INVALID) {
+                rejected++;
+            } else {
+                batch.copyTo(board, cells);
+                target.accept(cells);
+                accepted++;
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * Obtiene el número de tableros entregados al receptor.
+     *
+     * @return Tableros válidos
+     */
+    public long getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Obtiene el número de tableros descartados.
+     *
+     * @return Tableros que rompen las reglas
+     */
+    public long getRejected() {
+        return rejected;
+    }
+}
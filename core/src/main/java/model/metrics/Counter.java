@@ -0,0 +1,62 @@
+package model.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador sin candados. No hace nada mientras el registro esté desactivado.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class Counter {
+
+    /** Registro al que pertenece */
+    private final MetricsRegistry registry;
+
+    /** Valor acumulado */
+    private final LongAdder value = new LongAdder();
+
+    /**
+     * Constructor que crea un contador.
+     *
+     * @param registry Registro al que pertenece
+     */
+    Counter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Suma uno al contador.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Suma una cantidad al contador.
+     *
+     * @param amount Cantidad a sumar
+     */
+    public void add(long amount) {
+        if (registry.isEnabled()) {
+            value.add(amount);
+        }
+    }
+
+    /**
+     * Obtiene el valor acumulado.
+     *
+     * @return Valor del contador
+     */
+    public long get() {
+        return value.sum();
+    }
+
+    /**
+     * Pone el contador en cero.
+     */
+    void reset() {
+        value.reset();
+    }
+}
@@ -0,0 +1,29 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR que registra el tiempo de initializeGame, incluyendo los reintentos al colocar números.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+@Name("sudoku.Generation")
+@Label("Generación de tablero")
+@Description("Tiempo de initializeGame, incluyendo los reintentos al colocar números")
+@Category("Sudoku")
+public class GenerationEvent extends Event {
+
+    /** Tamaño del tablero */
+    @Label("Tamaño")
+    public int size;
+
+    /** Intentos al colocar los números iniciales (incluye reintentos) */
+    @Label("Intentos")
+    public int attempts;
+}
@@ -0,0 +1,33 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR que registra el tiempo de calcular una ayuda.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+@Name("sudoku.Hint")
+@Label("Ayuda")
+@Description("Tiempo de calcular una ayuda")
+@Category("Sudoku")
+public class HintEvent extends Event {
+
+    /** Fila de la celda */
+    @Label("Fila")
+    public int row;
+
+    /** Columna de la celda */
+    @Label("Columna")
+    public int col;
+
+    /** Número sugerido, o 0 si no hubo ayuda */
+    @Label("Número")
+    public int value;
+}
@@ -0,0 +1,29 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR que registra el tiempo de procesar una tecla en el controlador.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+@Name("sudoku.KeyHandling")
+@Label("Manejo de tecla")
+@Description("Tiempo de procesar una tecla en el controlador")
+@Category("Sudoku")
+public class KeyHandlingEvent extends Event {
+
+    /** Código de la tecla */
+    @Label("Tecla")
+    public String key;
+
+    /** Indica si el número se pudo colocar */
+    @Label("Aceptada")
+    public boolean accepted;
+}
@@ -0,0 +1,161 @@
+package model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Histograma de latencias sin candados, con cubetas log-lineales al estilo
+ * de HdrHistogram: cada potencia de dos se divide en 32 sub-cubetas, lo que
+ * da un error relativo menor al 3% en todo el rango de {@code long}.
+ * Los valores se registran en nanosegundos. No hace nada mientras el
+ * registro esté desactivado.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    /** Bits de sub-cubeta por potencia de dos */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /** Sub-cubetas por potencia de dos */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Número total de cubetas */
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /** Registro al que pertenece */
+    private final MetricsRegistry registry;
+
+    /** Conteo de cada cubeta */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /** Valor máximo registrado */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructor que crea un histograma vacío.
+     *
+     * @param registry Registro al que pertenece
+     */
+    LatencyHistogram(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Registra un valor.
+     *
+     * @param nanos Valor en nanosegundos (los negativos se cuentan como 0)
+     */
+    public void record(long nanos) {
+        if (!registry.isEnabled()) {
+            return;
+        }
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        max.accumulate(value);
+    }
+
+    /**
+     * Registra el tiempo transcurrido desde un inicio obtenido con {@link MetricsRegistry#startTimer()}.
+     *
+     * @param start Instante de inicio, o 0 si el registro estaba desactivado
+     */
+    public void recordSince(long start) {
+        if (start != 0) {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Calcula la cubeta de un valor.
+     *
+     * @param value Valor no negativo
+     * @return Índice de la cubeta
+     */
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + (sub - SUB_BUCKETS);
+    }
+
+    /**
+     * Calcula el límite superior de los valores de una cubeta.
+     *
+     * @param bucket Índice de la cubeta
+     * @return Mayor valor que cae en la cubeta
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /**
+     * Obtiene el número de valores registrados.
+     *
+     * @return Número de valores
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Obtiene el valor máximo registrado.
+     *
+     * @return Máximo en nanosegundos
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Obtiene el valor en un percentil.
+     *
+     * @param percentile Percentil entre 0 y 100
+     * @return Valor aproximado en nanosegundos, o 0 si no hay valores
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Vacía el histograma.
+     */
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        max.reset();
+    }
+}
@@ -0,0 +1,147 @@
+package model.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de contadores e histogramas de latencia de las rutas críticas del juego.
+ * Las métricas se obtienen una vez (normalmente en un campo estático) y luego
+ * se actualizan sin candados. Mientras el registro está desactivado cada
+ * actualización es una sola lectura de un campo, así que se puede dejar
+ * instrumentado en producción.
+ *
+ * El registro global se activa con la propiedad de sistema {@code sudoku.metrics=true}
+ * o con {@link #setEnabled(boolean)}, y se puede volcar en cualquier momento con {@link #dump(Appendable)}.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class MetricsRegistry {
+
+    /** Registro global del juego */
+    private static final MetricsRegistry GLOBAL =
+            new MetricsRegistry(Boolean.getBoolean("sudoku.metrics"));
+
+    /** Indica si se registran valores */
+    private volatile boolean enabled;
+
+    /** Contadores por nombre */
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /** Histogramas por nombre */
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor que crea un registro.
+     *
+     * @param enabled true para empezar a registrar valores de inmediato
+     */
+    public MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Obtiene el registro global del juego.
+     *
+     * @return Registro global
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Obtiene o crea un contador.
+     *
+     * @param name Nombre del contador
+     * @return Contador con ese nombre
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, k -> new Counter(this));
+    }
+
+    /**
+     * Obtiene o crea un histograma de latencias.
+     *
+     * @param name Nombre del histograma
+     * @return Histograma con ese nombre
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, k -> new LatencyHistogram(this));
+    }
+
+    /**
+     * Obtiene el instante de inicio de una medición.
+     *
+     * @return {@link System#nanoTime()} si el registro está activo, o 0 si no
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Indica si el registro está activo.
+     *
+     * @return true si se registran valores
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Activa o desactiva el registro.
+     *
+     * @param enabled true para registrar valores
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Pone todas las métricas en cero.
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Escribe todas las métricas en formato de texto, ordenadas por nombre.
+     * Las latencias se muestran en microsegundos.
+     *
+     * @param out Destino de la escritura
+     */
+    public void dump(Appendable out) {
+        try {
+            for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+                out.append(entry.getKey()).append(" count=").append(String.valueOf(entry.getValue().get())).append('\n');
+            }
+            for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+                LatencyHistogram h = entry.getValue();
+                out.append(entry.getKey())
+                        .append(" count=").append(String.valueOf(h.getCount()))
+                        .append(" p50=").append(micros(h.getValueAtPercentile(50)))
+                        .append(" p90=").append(micros(h.getValueAtPercentile(90)))
+                        .append(" p99=").append(micros(h.getValueAtPercentile(99)))
+                        .append(" max=").append(micros(h.getMax()))
+                        .append('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Convierte nanosegundos a microsegundos con un decimal.
+     *
+     * @param nanos Valor en nanosegundos
+     * @return Texto en microsegundos
+     */
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1fus", nanos / 1000.0);
+    }
+}
@@ -0,0 +1,29 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR que registra el tiempo de isGameComplete.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+@Name("sudoku.Validation")
+@Label("Validación del tablero")
+@Description("Tiempo de isGameComplete")
+@Category("Sudoku")
+public class ValidationEvent extends Event {
+
+    /** Tamaño del tablero */
+    @Label("Tamaño")
+    public int size;
+
+    /** Indica si el tablero estaba completo */
+    @Label("Completo")
+    public boolean complete;
+}
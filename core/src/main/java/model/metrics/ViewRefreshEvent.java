@@ -0,0 +1,25 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR que registra el tiempo de actualizar celdas de la vista.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+@Name("sudoku.ViewRefresh")
+@Label("Actualización de la vista")
+@Description("Tiempo de actualizar celdas de la vista")
+@Category("Sudoku")
+public class ViewRefreshEvent extends Event {
+
+    /** Número de celdas actualizadas */
+    @Label("Celdas")
+    public int cells;
+}
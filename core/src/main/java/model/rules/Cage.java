@@ -0,0 +1,57 @@
+package model.rules;
+
+import java.util.Arrays;
+
+/**
+ * Jaula de un Killer Sudoku: un grupo de celdas sin números repetidos
+ * cuya suma debe ser igual a un valor dado.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class Cage {
+
+    /** Suma que deben alcanzar las celdas de la jaula */
+    private final int sum;
+
+    /** Índices planos de las celdas de la jaula */
+    private final int[] cells;
+
+    /**
+     * Constructor que crea una jaula.
+     *
+     * @param sum Suma objetivo de la jaula
+     * @param cells Índices planos de las celdas de la jaula
+     */
+    public Cage(int sum, int... cells) {
+        if (cells.length == 0) {
+            throw new IllegalArgumentException("La jaula debe tener al menos una celda");
+        }
+        this.sum = sum;
+        this.cells = cells.clone();
+    }
+
+    /**
+     * Obtiene la suma objetivo de la jaula.
+     *
+     * @return Suma objetivo
+     */
+    public int getSum() {
+        return sum;
+    }
+
+    /**
+     * Obtiene las celdas de la jaula.
+     *
+     * @return Copia de los índices planos de las celdas
+     */
+    public int[] getCells() {
+        return cells.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "Cage{sum=" + sum + ", cells=" + Arrays.toString(cells) + "}";
+    }
+}
@@ -0,0 +1,77 @@
+package model.rules;
+
+/**
+ * Reglas clásicas de Sudoku con bloques rectangulares de
+ * {@code blockRows} x {@code blockCols} (por ejemplo 2x3 para el tablero 6x6).
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class ClassicRules implements SudokuRules {
+
+    /** Filas de cada bloque */
+    private final int blockRows;
+
+    /** Columnas de cada bloque */
+    private final int blockCols;
+
+    /**
+     * Constructor que crea las reglas clásicas.
+     *
+     * @param blockRows Filas de cada bloque
+     * @param blockCols Columnas de cada bloque
+     */
+    public ClassicRules(int blockRows, int blockCols) {
+        if (blockRows < 1 || blockCols < 1) {
+            throw new IllegalArgumentException("Tamaño de bloque inválido: " + blockRows + "x" + blockCols);
+        }
+        this.blockRows = blockRows;
+        this.blockCols = blockCols;
+    }
+
+    @Override
+    public int getSize() {
+        return blockRows * blockCols;
+    }
+
+    /**
+     * Obtiene las filas de cada bloque.
+     *
+     * @return Filas de cada bloque
+     */
+    public int getBlockRows() {
+        return blockRows;
+    }
+
+    /**
+     * Obtiene las columnas de cada bloque.
+     *
+     * @return Columnas de cada bloque
+     */
+    public int getBlockCols() {
+        return blockCols;
+    }
+
+    @Override
+    public int[][] getRegions() {
+        int size = getSize();
+        int[][] regions = new int[size][];
+        int index = 0;
+
+        // Recorre los bloques de arriba a abajo y de izquierda a derecha
+        for (int rowStart = 0; rowStart < size; rowStart += blockRows) {
+            for (int colStart = 0; colStart < size; colStart += blockCols) {
+                int[] region = new int[size];
+                int k = 0;
+                for (int row = rowStart; row < rowStart + blockRows; row++) {
+                    for (int col = colStart; col < colStart + blockCols; col++) {
+                        region[k++] = row * size + col;
+                    }
+                }
+                regions[index++] = region;
+            }
+        }
+        return regions;
+    }
+}
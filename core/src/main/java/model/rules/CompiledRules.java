@@ -0,0 +1,427 @@
+package model.rules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Reglas de una variante compiladas en tablas planas.
+ * Al crear el juego se calculan, para cada celda, sus vecinos (las celdas
+ * que comparten fila, columna, región, unidad extra o jaula) y la lista de
+ * unidades. Así todas las verificaciones recorren arreglos sin divisiones,
+ * y cualquier variante es igual de rápida que la clásica.
+ *
+ * Las instancias son inmutables y se pueden compartir entre hilos.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class CompiledRules {
+
+    /** Tamaño máximo soportado por las máscaras de bits de tipo int */
+    public static final int MAX_SIZE = 30;
+
+    /** Reglas a partir de las que se compiló */
+    private final SudokuRules source;
+
+    /** Tamaño del tablero */
+    private final int size;
+
+    /** Número total de celdas */
+    private final int cellCount;
+
+    /** Vecinos de cada celda (sin incluir la celda misma) */
+    private final int[][] peers;
+
+    /** Todas las unidades: filas, columnas, regiones, extras y jaulas */
+    private final int[][] units;
+
+    /** Regiones (bloques o piezas) del tablero */
+    private final int[][] regions;
+
+    /** Jaula de cada celda, o -1 si no pertenece a ninguna */
+    private final int[] cageOf;
+
+    /** Celdas de cada jaula */
+    private final int[][] cageCells;
+
+    /** Suma objetivo de cada jaula */
+    private final int[] cageSum;
+
+    /** Fila de cada celda */
+    private final int[] rowOf;
+
+    /** Columna de cada celda */
+    private final int[] colOf;
+
+    /**
+     * Constructor que compila las reglas.
+     *
+     * @param rules Reglas de la variante
+     */
+    CompiledRules(SudokuRules rules) {
+        source = rules;
+        size = rules.getSize();
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Tamaño de tablero no soportado: " + size);
+        }
+        cellCount = size * size;
+
+        rowOf = new int[cellCount];
+        colOf = new int[cellCount];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                rowOf[row * size + col] = row;
+                colOf[row * size + col] = col;
+            }
+        }
+
+        List<Cage> cages = rules.getCages();
+        cageOf = new int[cellCount];
+        Arrays.fill(cageOf, -1);
+        cageCells = new int[cages.size()][];
+        cageSum = new int[cages.size()];
+        for (int i = 0; i < cages.size(); i++) {
+            cageCells[i] = cages.get(i).getCells();
+            cageSum[i] = cages.get(i).getSum();
+            for (int cell : cageCells[i]) {
+                cageOf[cell] = i;
+            }
+        }
+
+        regions = rules.getRegions();
+        List<int[]> allUnits = new ArrayList<>();
+
+        // Filas y columnas
+        for (int i = 0; i < size; i++) {
+            int[] row = new int[size];
+            int[] col = new int[size];
+            for (int j = 0; j < size; j++) {
+                row[j] = i * size + j;
+                col[j] = j * size + i;
+            }
+            allUnits.add(row);
+            allUnits.add(col);
+        }
+        for (int[] region : regions) {
+            allUnits.add(region.clone());
+        }
+        for (int[] extra : rules.getExtraUnits()) {
+            allUnits.add(extra.clone());
+        }
+        for (int[] cage : cageCells) {
+            allUnits.add(cage.clone());
+        }
+        units = allUnits.toArray(new int[0][]);
+
+        peers = buildPeers();
+    }
+
+    /**
+     * Calcula los vecinos de cada celda a partir de las unidades.
+     *
+     * @return Vecinos de cada celda, ordenados y sin repetir
+     */
+    private int[][] buildPeers() {
+        boolean[][] isPeer = new boolean[cellCount][cellCount];
+        for (int[] unit : units) {
+            for (int a : unit) {
+                for (int b : unit) {
+                    if (a != b) {
+                        isPeer[a][b] = true;
+                    }
+                }
+            }
+        }
+
+        int[][] result = new int[cellCount][];
+        for (int cell = 0; cell < cellCount; cell++) {
+            int count = 0;
+            for (int other = 0; other < cellCount; other++) {
+                if (isPeer[cell][other]) {
+                    count++;
+                }
+            }
+            int[] list = new int[count];
+            int k = 0;
+            for (int other = 0; other < cellCount; other++) {
+                if (isPeer[cell][other]) {
+                    list[k++] = other;
+                }
+            }
+            result[cell] = list;
+        }
+        return result;
+    }
+
+    /**
+     * Verifica si es válido colocar un número en una celda.
+     * Recorre la tabla de vecinos de la celda y, si pertenece a una jaula,
+     * comprueba que la suma no se pase del objetivo.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @param cell Índice plano de la celda
+     * @param num Número a colocar
+     * @return true si el número puede ser colocado, false en caso contrario
+     */
+    public boolean isValidPlacement(int[] cells, int cell, int num) {
+        return isValidPlacement(i -> cells[i], cell, num);
+    }
+
+    /**
+     * Verifica si es válido colocar un número en una celda de un tablero empaquetado en bytes.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @param cell Índice plano de la celda
+     * @param num Número a colocar
+     * @return true si el número puede ser colocado, false en caso contrario
+     * @see #isValidPlacement(int[], int, int)
+     */
+    public boolean isValidPlacement(byte[] cells, int cell, int num) {
+        return isValidPlacement(i -> cells[i], cell, num);
+    }
+
+    /**
+     * Verifica que ninguna unidad tenga números repetidos y que ninguna
+     * jaula supere su suma.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @return true si el tablero es válido, false en caso contrario
+     */
+    public boolean isValid(int[] cells) {
+        return isValid(i -> cells[i]);
+    }
+
+    /**
+     * Verifica si el tablero está lleno y es válido.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @return true si el tablero está completo, false en caso contrario
+     */
+    public boolean isComplete(int[] cells) {
+        return isComplete(i -> cells[i]);
+    }
+
+    /**
+     * Verifica si un tablero empaquetado en bytes está lleno y es válido.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @return true si el tablero está completo, false en caso contrario
+     * @see #isComplete(int[])
+     */
+    public boolean isComplete(byte[] cells) {
+        return isComplete(i -> cells[i]);
+    }
+
+    /**
+     * Verifica una jugada leyendo las celdas a través de un accesor, que es
+     * lo único que cambia entre los tableros de enteros y los de bytes.
+     *
+     * @param cells Valor de cada celda por índice plano (0 = vacía)
+     * @param cell Índice plano de la celda
+     * @param num Número a colocar
+     * @return true si el número puede ser colocado, false en caso contrario
+     */
+    private boolean isValidPlacement(IntUnaryOperator cells, int cell, int num) {
+        for (int peer : peers[cell]) {
+            if (cells.applyAsInt(peer) == num) {
+                return false;
+            }
+        }
+
+        int cage = cageOf[cell];
+        if (cage >= 0) {
+            int sum = num;
+            boolean full = true;
+            for (int other : cageCells[cage]) {
+                if (other != cell) {
+                    int value = cells.applyAsInt(other);
+                    sum += value;
+                    full &= value != 0;
+                }
+            }
+            return full ? sum == cageSum[cage] : sum < cageSum[cage];
+        }
+        return true;
+    }
+
+    /**
+     * Verifica las unidades y las jaulas leyendo las celdas a través de un accesor.
+     *
+     * @param cells Valor de cada celda por índice plano (0 = vacía)
+     * @return true si el tablero es válido, false en caso contrario
+     */
+    private boolean isValid(IntUnaryOperator cells) {
+        for (int[] unit : units) {
+            int seen = 0;
+            for (int cell : unit) {
+                int num = cells.applyAsInt(cell);
+                if (num > 0) {
+                    int bit = 1 << num;
+                    if ((seen & bit) != 0) {
+                        return false;
+                    }
+                    seen |= bit;
+                }
+            }
+        }
+
+        for (int cage = 0; cage < cageCells.length; cage++) {
+            int sum = 0;
+            boolean full = true;
+            for (int cell : cageCells[cage]) {
+                int num = cells.applyAsInt(cell);
+                sum += num;
+                full &= num != 0;
+            }
+            if (full ? sum != cageSum[cage] : sum >= cageSum[cage]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica que no haya celdas vacías y que el tablero sea válido, leyendo las celdas a través de un accesor.
+     *
+     * @param cells Valor de cada celda por índice plano (0 = vacía)
+     * @return true si el tablero está completo, false en caso contrario
+     */
+    private boolean isComplete(IntUnaryOperator cells) {
+        for (int i = 0; i < cellCount; i++) {
+            if (cells.applyAsInt(i) == 0) {
+                return false;
+            }
+        }
+        return isValid(cells);
+    }
+
+    /**
+     * Obtiene la máscara de bits de los números que ya usan los vecinos de una celda.
+     * El bit {@code n} está activo si algún vecino contiene el número {@code n}.
+     *
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @param cell Índice plano de la celda
+     * @return Máscara de números usados
+     */
+    public int usedMask(int[] cells, int cell) {
+        int used = 0;
+        for (int peer : peers[cell]) {
+            used |= 1 << cells[peer];
+        }
+        return used & ~1;
+    }
+
+    /**
+     * Obtiene la máscara con todos los números válidos (bits 1 a size).
+     *
+     * @return Máscara completa
+     */
+    public int fullMask() {
+        return ((1 << (size + 1)) - 1) & ~1;
+    }
+
+    /**
+     * Obtiene las reglas a partir de las que se compiló.
+     *
+     * @return Reglas de la variante
+     */
+    public SudokuRules getSource() {
+        return source;
+    }
+
+    /**
+     * Obtiene el tamaño del tablero.
+     *
+     * @return Tamaño del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtiene el número total de celdas.
+     *
+     * @return Número de celdas
+     */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Obtiene los vecinos de una celda. El arreglo devuelto es compartido y no debe modificarse.
+     *
+     * @param cell Índice plano de la celda
+     * @return Vecinos de la celda
+     */
+    public int[] getPeers(int cell) {
+        return peers[cell];
+    }
+
+    /**
+     * Obtiene todas las unidades. Los arreglos devueltos son compartidos y no deben modificarse.
+     *
+     * @return Unidades del tablero
+     */
+    public int[][] getUnits() {
+        return units;
+    }
+
+    /**
+     * Obtiene las regiones. Los arreglos devueltos son compartidos y no deben modificarse.
+     *
+     * @return Regiones del tablero
+     */
+    public int[][] getRegions() {
+        return regions;
+    }
+
+    /**
+     * Indica si la variante tiene jaulas con suma.
+     *
+     * @return true si hay jaulas, false en caso contrario
+     */
+    public boolean hasCages() {
+        return cageCells.length > 0;
+    }
+
+    /**
+     * Obtiene las celdas de cada jaula. Los arreglos devueltos son compartidos y no deben modificarse.
+     *
+     * @return Celdas de cada jaula
+     */
+    public int[][] getCageCells() {
+        return cageCells;
+    }
+
+    /**
+     * Obtiene la suma objetivo de cada jaula. El arreglo devuelto es compartido y no debe modificarse.
+     *
+     * @return Suma de cada jaula
+     */
+    public int[] getCageSums() {
+        return cageSum;
+    }
+
+    /**
+     * Obtiene la fila de una celda sin dividir.
+     *
+     * @param cell Índice plano de la celda
+     * @return Fila de la celda
+     */
+    public int rowOf(int cell) {
+        return rowOf[cell];
+    }
+
+    /**
+     * Obtiene la columna de una celda sin dividir.
+     *
+     * @param cell Índice plano de la celda
+     * @return Columna de la celda
+     */
+    public int colOf(int cell) {
+        return colOf[cell];
+    }
+}
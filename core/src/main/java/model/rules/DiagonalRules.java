@@ -0,0 +1,34 @@
+package model.rules;
+
+/**
+ * Reglas de Sudoku diagonal (X-Sudoku): además de las reglas clásicas,
+ * las dos diagonales principales no pueden tener números repetidos.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class DiagonalRules extends ClassicRules {
+
+    /**
+     * Constructor que crea las reglas diagonales.
+     *
+     * @param blockRows Filas de cada bloque
+     * @param blockCols Columnas de cada bloque
+     */
+    public DiagonalRules(int blockRows, int blockCols) {
+        super(blockRows, blockCols);
+    }
+
+    @Override
+    public int[][] getExtraUnits() {
+        int size = getSize();
+        int[] main = new int[size];
+        int[] anti = new int[size];
+        for (int i = 0; i < size; i++) {
+            main[i] = i * size + i;
+            anti[i] = i * size + (size - 1 - i);
+        }
+        return new int[][] {main, anti};
+    }
+}
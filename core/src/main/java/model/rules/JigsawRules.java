@@ -0,0 +1,63 @@
+package model.rules;
+
+/**
+ * Reglas de Sudoku irregular (Jigsaw): las regiones son piezas de forma
+ * libre en lugar de bloques rectangulares.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class JigsawRules implements SudokuRules {
+
+    /** Tamaño del tablero */
+    private final int size;
+
+    /** Región a la que pertenece cada celda */
+    private final int[] regionOfCell;
+
+    /**
+     * Constructor que crea las reglas irregulares.
+     *
+     * @param size Tamaño del tablero
+     * @param regionOfCell Número de región (0 a size-1) de cada celda, en orden plano
+     */
+    public JigsawRules(int size, int[] regionOfCell) {
+        if (regionOfCell.length != size * size) {
+            throw new IllegalArgumentException("Se esperaban " + size * size + " celdas, hay " + regionOfCell.length);
+        }
+
+        // Cada región debe tener exactamente 'size' celdas
+        int[] counts = new int[size];
+        for (int region : regionOfCell) {
+            if (region < 0 || region >= size) {
+                throw new IllegalArgumentException("Región fuera de rango: " + region);
+            }
+            counts[region]++;
+        }
+        for (int region = 0; region < size; region++) {
+            if (counts[region] != size) {
+                throw new IllegalArgumentException("La región " + region + " tiene " + counts[region] + " celdas");
+            }
+        }
+
+        this.size = size;
+        this.regionOfCell = regionOfCell.clone();
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int[][] getRegions() {
+        int[][] regions = new int[size][size];
+        int[] filled = new int[size];
+        for (int cell = 0; cell < regionOfCell.length; cell++) {
+            int region = regionOfCell[cell];
+            regions[region][filled[region]++] = cell;
+        }
+        return regions;
+    }
+}
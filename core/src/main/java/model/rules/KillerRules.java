@@ -0,0 +1,62 @@
+package model.rules;
+
+import java.util.List;
+
+/**
+ * Reglas de Killer Sudoku: agrega jaulas con suma a otra variante
+ * (normalmente la clásica).
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class KillerRules implements SudokuRules {
+
+    /** Reglas base sobre las que se agregan las jaulas */
+    private final SudokuRules base;
+
+    /** Jaulas del tablero */
+    private final List<Cage> cages;
+
+    /**
+     * Constructor que crea las reglas Killer.
+     *
+     * @param base Reglas base
+     * @param cages Jaulas con suma
+     */
+    public KillerRules(SudokuRules base, List<Cage> cages) {
+        this.base = base;
+        this.cages = List.copyOf(cages);
+
+        // Una celda no puede estar en dos jaulas
+        boolean[] used = new boolean[base.getSize() * base.getSize()];
+        for (Cage cage : this.cages) {
+            for (int cell : cage.getCells()) {
+                if (cell < 0 || cell >= used.length || used[cell]) {
+                    throw new IllegalArgumentException("Celda inválida o repetida en las jaulas: " + cell);
+                }
+                used[cell] = true;
+            }
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return base.getSize();
+    }
+
+    @Override
+    public int[][] getRegions() {
+        return base.getRegions();
+    }
+
+    @Override
+    public int[][] getExtraUnits() {
+        return base.getExtraUnits();
+    }
+
+    @Override
+    public List<Cage> getCages() {
+        return cages;
+    }
+}
@@ -0,0 +1,61 @@
+package model.rules;
+
+import java.util.List;
+
+/**
+ * Define las reglas de una variante de Sudoku.
+ * Toda variante tiene filas y columnas implícitas; la implementación solo
+ * describe sus regiones (bloques o piezas irregulares), las unidades extra
+ * (por ejemplo las diagonales) y las jaulas con suma.
+ *
+ * Las celdas se identifican con un índice plano: {@code fila * tamaño + columna}.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public interface SudokuRules {
+
+    /**
+     * Obtiene el tamaño del tablero (número de filas, columnas y valores).
+     *
+     * @return Tamaño del tablero
+     */
+    int getSize();
+
+    /**
+     * Obtiene las regiones del tablero. Cada región contiene exactamente
+     * {@link #getSize()} celdas y ninguna celda pertenece a dos regiones.
+     *
+     * @return Índices planos de las celdas de cada región
+     */
+    int[][] getRegions();
+
+    /**
+     * Obtiene las unidades adicionales a filas, columnas y regiones
+     * donde tampoco se pueden repetir números.
+     *
+     * @return Índices planos de las celdas de cada unidad extra
+     */
+    default int[][] getExtraUnits() {
+        return new int[0][];
+    }
+
+    /**
+     * Obtiene las jaulas con suma (Killer Sudoku).
+     *
+     * @return Lista de jaulas, vacía si la variante no las usa
+     */
+    default List<Cage> getCages() {
+        return List.of();
+    }
+
+    /**
+     * Compila las reglas en tablas precalculadas de vecinos y unidades.
+     *
+     * @return Reglas compiladas listas para usar en las verificaciones
+     */
+    default CompiledRules compile() {
+        return new CompiledRules(this);
+    }
+}
@@ -0,0 +1,666 @@
+package model.sat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Resolvedor SAT con aprendizaje de cláusulas dirigido por conflictos (CDCL).
+ * Implementa propagación unitaria con dos literales vigilados, análisis de
+ * conflictos con el primer punto de implicación único (1UIP), heurística de
+ * actividad de variables (VSIDS) con guardado de fase y reinicios según la
+ * secuencia de Luby. No depende de bibliotecas externas.
+ *
+ * Para que la memoria no crezca sin límite en los tableros difíciles, en los
+ * reinicios se borra la mitad de las cláusulas aprendidas con peor LBD (número
+ * de niveles de decisión distintos entre sus literales) cuando pasan del
+ * límite, que crece un poco en cada limpieza. Las de LBD 2 o menos no se borran.
+ *
+ * Internamente el literal de la variable {@code v} (desde 0) es {@code 2v}
+ * si es positivo y {@code 2v + 1} si es negativo.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class CdclSolver {
+
+    /** Resultado de la búsqueda */
+    public enum Result {
+        /** La fórmula tiene un modelo */
+        SATISFIABLE,
+        /** La fórmula no tiene modelo */
+        UNSATISFIABLE,
+        /** La búsqueda se detuvo antes de terminar */
+        UNKNOWN
+    }
+
+    /** Conflictos base entre reinicios, multiplicados por la secuencia de Luby */
+    private static final int RESTART_BASE = 100;
+
+    /** Factor de decaimiento de la actividad de las variables */
+    private static final double VAR_DECAY = 0.95;
+
+    /** Mínimo de cláusulas aprendidas antes de la primera limpieza */
+    private static final int MIN_LEARNTS = 2000;
+
+    /** Factor de crecimiento del límite de cláusulas aprendidas en cada limpieza */
+    private static final double LEARNT_GROWTH = 1.1;
+
+    /** Las cláusulas aprendidas con este LBD o menos nunca se borran */
+    private static final int GLUE_LBD = 2;
+
+    /** Valores de asignación */
+    private static final byte UNDEF = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = -1;
+
+    /** Número de variables */
+    private int varCount;
+
+    /** Cláusulas originales y aprendidas; las aprendidas van después de las originales */
+    private List<int[]> clauses;
+
+    /** LBD de cada cláusula por índice (0 en las originales) */
+    private IntList lbds;
+
+    /** Número de cláusulas originales al principio de la lista */
+    private int originalCount;
+
+    /** Límite de cláusulas aprendidas antes de la siguiente limpieza */
+    private double maxLearnts;
+
+    /** Marca de la última cláusula contada en cada nivel, para calcular el LBD */
+    private long[] levelStamp;
+
+    /** Contador de las marcas de nivel */
+    private long stamp;
+
+    /** Cláusulas vigiladas por cada literal */
+    private IntList[] watches;
+
+    /** Valor asignado a cada variable */
+    private byte[] assigns;
+
+    /** Nivel de decisión de cada variable */
+    private int[] level;
+
+    /** Cláusula que implicó cada variable, o -1 si fue una decisión */
+    private int[] reason;
+
+    /** Última polaridad de cada variable (guardado de fase) */
+    private boolean[] polarity;
+
+    /** Actividad de cada variable */
+    private double[] activity;
+
+    /** Incremento actual de actividad */
+    private double varInc;
+
+    /** Literales asignados en orden */
+    private IntList trail;
+
+    /** Posición en la pila de asignaciones donde empieza cada nivel */
+    private IntList trailLim;
+
+    /** Siguiente literal de la pila por propagar */
+    private int qhead;
+
+    /** Montículo de variables ordenado por actividad */
+    private VarHeap heap;
+
+    /** Marcas temporales del análisis de conflictos */
+    private boolean[] seen;
+
+    /** Modelo encontrado en la última búsqueda satisfactoria */
+    private boolean[] model;
+
+    /** Número de conflictos de la última búsqueda */
+    private long conflicts;
+
+    /** Número de cláusulas aprendidas borradas en la última búsqueda */
+    private long deleted;
+
+    /**
+     * Resuelve una fórmula sin límite de tiempo.
+     *
+     * @param formula Fórmula a resolver
+     * @return Resultado de la búsqueda
+     */
+    public Result solve(CnfFormula formula) {
+        return solve(formula, () -> false);
+    }
+
+    /**
+     * Resuelve una fórmula. La búsqueda se detiene con {@link Result#UNKNOWN}
+     * en cuanto {@code stop} devuelve true.
+     *
+     * @param formula Fórmula a resolver
+     * @param stop Condición de parada, consultada entre decisiones
+     * @return Resultado de la búsqueda
+     */
+    public Result solve(CnfFormula formula, BooleanSupplier stop) {
+        init(formula.getVariableCount());
+        model = null;
+
+        for (int[] clause : formula.getClauses()) {
+            if (!addInputClause(clause)) {
+                return Result.UNSATISFIABLE;
+            }
+        }
+        if (propagate() >= 0) {
+            return Result.UNSATISFIABLE;
+        }
+        originalCount = clauses.size();
+        maxLearnts = Math.max(MIN_LEARNTS, originalCount / 3.0);
+        return search(stop);
+    }
+
+    /**
+     * Obtiene el valor de una variable en el modelo encontrado.
+     *
+     * @param variable Variable en formato DIMACS (desde 1)
+     * @return true si la variable es verdadera en el modelo
+     */
+    public boolean value(int variable) {
+        if (model == null) {
+            throw new IllegalStateException("No hay modelo: la última búsqueda no fue satisfactoria");
+        }
+        return model[variable - 1];
+    }
+
+    /**
+     * Obtiene el número de conflictos de la última búsqueda.
+     *
+     * @return Número de conflictos
+     */
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Obtiene el número de cláusulas aprendidas que se borraron en la última búsqueda.
+     *
+     * @return Número de cláusulas borradas
+     */
+    public long getDeletedClauses() {
+        return deleted;
+    }
+
+    /**
+     * Obtiene el número de cláusulas aprendidas que siguen en la base.
+     *
+     * @return Número de cláusulas aprendidas
+     */
+    public int getLearntClauses() {
+        return clauses.size() - originalCount;
+    }
+
+    /**
+     * Reserva las estructuras para una nueva búsqueda.
+     *
+     * @param variables Número de variables
+     */
+    private void init(int variables) {
+        varCount = variables;
+        clauses = new ArrayList<>();
+        lbds = new IntList(16);
+        originalCount = 0;
+        levelStamp = new long[variables + 1];
+        stamp = 0;
+        deleted = 0;
+        watches = new IntList[2 * variables];
+        for (int i = 0; i < watches.length; i++) {
+            watches[i] = new IntList(4);
+        }
+        assigns = new byte[variables];
+        level = new int[variables];
+        reason = new int[variables];
+        polarity = new boolean[variables];
+        activity = new double[variables];
+        seen = new boolean[variables];
+        varInc = 1.0;
+        trail = new IntList(variables);
+        trailLim = new IntList(16);
+        qhead = 0;
+        conflicts = 0;
+        heap = new VarHeap(activity);
+        for (int v = 0; v < variables; v++) {
+            reason[v] = -1;
+            heap.insert(v);
+        }
+    }
+
+    /**
+     * Agrega una cláusula de entrada en el nivel 0, simplificándola.
+     *
+     * @param dimacs Cláusula en formato DIMACS
+     * @return false si la fórmula resulta insatisfacible
+     */
+    private boolean addInputClause(int[] dimacs) {
+        IntList lits = new IntList(dimacs.length);
+        for (int d : dimacs) {
+            int lit = d > 0 ? 2 * (d - 1) : 2 * (-d - 1) + 1;
+            byte val = litValue(lit);
+            if (val == TRUE) {
+                return true; // ya satisfecha
+            }
+            if (val == FALSE) {
+                continue; // literal falso en el nivel 0
+            }
+            boolean duplicate = false;
+            for (int i = 0; i < lits.size; i++) {
+                if (lits.data[i] == lit) {
+                    duplicate = true;
+                } else if (lits.data[i] == (lit ^ 1)) {
+                    return true; // tautología
+                }
+            }
+            if (!duplicate) {
+                lits.add(lit);
+            }
+        }
+
+        if (lits.size == 0) {
+            return false;
+        }
+        if (lits.size == 1) {
+            enqueue(lits.data[0], -1);
+            return propagate() < 0;
+        }
+        attach(Arrays.copyOf(lits.data, lits.size));
+        return true;
+    }
+
+    /**
+     * Agrega una cláusula y vigila sus dos primeros literales.
+     *
+     * @param clause Literales internos de la cláusula
+     * @return Índice de la cláusula
+     */
+    private int attach(int[] clause) {
+        int index = clauses.size();
+        clauses.add(clause);
+        lbds.add(0);
+        watches[clause[0]].add(index);
+        watches[clause[1]].add(index);
+        return index;
+    }
+
+    /**
+     * Ciclo principal de búsqueda con aprendizaje y reinicios.
+     *
+     * @param stop Condición de parada
+     * @return Resultado de la búsqueda
+     */
+    private Result search(BooleanSupplier stop) {
+        int restarts = 0;
+        long restartLimit = (long) luby(restarts) * RESTART_BASE;
+        long conflictsSinceRestart = 0;
+        IntList learnt = new IntList(16);
+
+        while (true) {
+            int conflict = propagate();
+            if (conflict >= 0) {
+                conflicts++;
+                conflictsSinceRestart++;
+                if (decisionLevel() == 0) {
+                    return Result.UNSATISFIABLE;
+                }
+
+                int backtrackLevel = analyze(conflict, learnt);
+                cancelUntil(backtrackLevel);
+                if (learnt.size == 1) {
+                    enqueue(learnt.data[0], -1);
+                } else {
+                    int lbd = computeLbd(learnt);
+                    int index = attach(Arrays.copyOf(learnt.data, learnt.size));
+                    lbds.data[index] = lbd;
+                    enqueue(learnt.data[0], index);
+                }
+                varInc /= VAR_DECAY;
+            } else {
+                if (stop.getAsBoolean()) {
+                    cancelUntil(0);
+                    return Result.UNKNOWN;
+                }
+                if (conflictsSinceRestart >= restartLimit) {
+                    cancelUntil(0);
+                    restarts++;
+                    restartLimit = (long) luby(restarts) * RESTART_BASE;
+                    conflictsSinceRestart = 0;
+                    if (clauses.size() - originalCount >= maxLearnts) {
+                        reduceLearnts();
+                        maxLearnts *= LEARNT_GROWTH;
+                    }
+                }
+
+                int next = pickBranchVariable();
+                if (next < 0) {
+                    saveModel();
+                    cancelUntil(0);
+                    return Result.SATISFIABLE;
+                }
+                trailLim.add(trail.size);
+                enqueue(polarity[next] ? 2 * next : 2 * next + 1, -1);
+            }
+        }
+    }
+
+    /**
+     * Propaga las asignaciones pendientes usando los literales vigilados.
+     *
+     * @return Índice de la cláusula en conflicto, o -1 si no hubo conflicto
+     */
+    private int propagate() {
+        while (qhead < trail.size) {
+            int falseLit = trail.data[qhead++] ^ 1;
+            IntList ws = watches[falseLit];
+            int[] list = ws.data;
+            int i = 0;
+            int j = 0;
+            int n = ws.size;
+
+            while (i < n) {
+                int index = list[i++];
+                int[] clause = clauses.get(index);
+
+                // El literal falso queda en la posición 1
+                if (clause[0] == falseLit) {
+                    clause[0] = clause[1];
+                    clause[1] = falseLit;
+                }
+
+                if (litValue(clause[0]) == TRUE) {
+                    list[j++] = index;
+                    continue;
+                }
+
+                // Buscar otro literal que no sea falso para vigilar
+                boolean moved = false;
+                for (int k = 2; k < clause.length; k++) {
+                    if (litValue(clause[k]) != FALSE) {
+                        clause[1] = clause[k];
+                        clause[k] = falseLit;
+                        watches[clause[1]].add(index);
+                        moved = true;
+                        break;
+                    }
+                }
+                if (moved) {
+                    continue;
+                }
+
+                list[j++] = index;
+                if (litValue(clause[0]) == FALSE) {
+                    // Conflicto: conservar el resto de la lista
+                    while (i < n) {
+                        list[j++] = list[i++];
+                    }
+                    ws.size = j;
+                    qhead = trail.size;
+                    return index;
+                }
+                enqueue(clause[0], index);
+            }
+            ws.size = j;
+        }
+        return -1;
+    }
+
+    /**
+     * Analiza un conflicto y construye la cláusula aprendida (1UIP).
+     * El literal afirmado queda en la posición 0 y el de mayor nivel restante en la 1.
+     *
+     * @param conflict Índice de la cláusula en conflicto
+     * @param learnt Lista donde se escribe la cláusula aprendida
+     * @return Nivel al que se debe retroceder
+     */
+    private int analyze(int conflict, IntList learnt) {
+        learnt.size = 0;
+        learnt.add(-1); // espacio para el literal afirmado
+
+        int pathCount = 0;
+        int p = -1;
+        int index = trail.size - 1;
+        int clauseIndex = conflict;
+        int currentLevel = decisionLevel();
+
+        do {
+            int[] clause = clauses.get(clauseIndex);
+            for (int k = (p == -1 ? 0 : 1); k < clause.length; k++) {
+                int q = clause[k];
+                int v = q >> 1;
+                if (!seen[v] && level[v] > 0) {
+                    bumpActivity(v);
+                    seen[v] = true;
+                    if (level[v] >= currentLevel) {
+                        pathCount++;
+                    } else {
+                        learnt.add(q);
+                    }
+                }
+            }
+
+            // Siguiente literal marcado de la pila
+            while (!seen[trail.data[index] >> 1]) {
+                index--;
+            }
+            p = trail.data[index--];
+            clauseIndex = reason[p >> 1];
+            seen[p >> 1] = false;
+            pathCount--;
+        } while (pathCount > 0);
+        learnt.data[0] = p ^ 1;
+
+        // Nivel de retroceso: el mayor nivel entre los demás literales
+        int backtrackLevel = 0;
+        int maxIndex = 1;
+        for (int k = 1; k < learnt.size; k++) {
+            int lv = level[learnt.data[k] >> 1];
+            if (lv > backtrackLevel) {
+                backtrackLevel = lv;
+                maxIndex = k;
+            }
+        }
+        if (learnt.size > 1) {
+            int tmp = learnt.data[1];
+            learnt.data[1] = learnt.data[maxIndex];
+            learnt.data[maxIndex] = tmp;
+        }
+
+        for (int k = 1; k < learnt.size; k++) {
+            seen[learnt.data[k] >> 1] = false;
+        }
+        return backtrackLevel;
+    }
+
+    /**
+     * Calcula el LBD de una cláusula: cuántos niveles de decisión distintos tienen sus literales.
+     *
+     * @param lits Literales de la cláusula, todos asignados
+     * @return LBD de la cláusula
+     */
+    private int computeLbd(IntList lits) {
+        stamp++;
+        int count = 0;
+        for (int k = 0; k < lits.size; k++) {
+            int lv = level[lits.data[k] >> 1];
+            if (levelStamp[lv] != stamp) {
+                levelStamp[lv] = stamp;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Borra la mitad de las cláusulas aprendidas con peor LBD (y a igual LBD, las
+     * más largas), salvo las de LBD hasta {@link #GLUE_LBD}. Solo se llama en el
+     * nivel 0 y con la propagación al día, así que ninguna cláusula es razón de
+     * una variable por encima del nivel 0 y las vigiladas siguen en las posiciones 0 y 1;
+     * basta con renumerar y volver a armar las listas de vigilancia.
+     */
+    private void reduceLearnts() {
+        List<Integer> learnts = new ArrayList<>(clauses.size() - originalCount);
+        for (int i = originalCount; i < clauses.size(); i++) {
+            learnts.add(i);
+        }
+        learnts.sort(Comparator.comparingInt((Integer i) -> lbds.data[i])
+                .thenComparingInt(i -> clauses.get(i).length));
+
+        int keepCount = learnts.size() / 2;
+        List<int[]> kept = new ArrayList<>(clauses.subList(0, originalCount));
+        IntList keptLbds = new IntList(originalCount + keepCount);
+        keptLbds.size = originalCount;
+        for (int rank = 0; rank < learnts.size(); rank++) {
+            int i = learnts.get(rank);
+            if (rank < keepCount || lbds.data[i] <= GLUE_LBD) {
+                kept.add(clauses.get(i));
+                keptLbds.add(lbds.data[i]);
+            }
+        }
+        deleted += clauses.size() - kept.size();
+        clauses = kept;
+        lbds = keptLbds;
+
+        for (IntList ws : watches) {
+            ws.size = 0;
+        }
+        for (int index = 0; index < clauses.size(); index++) {
+            int[] clause = clauses.get(index);
+            watches[clause[0]].add(index);
+            watches[clause[1]].add(index);
+        }
+        // En el nivel 0 el análisis de conflictos no consulta las razones
+        for (int k = 0; k < trail.size; k++) {
+            reason[trail.data[k] >> 1] = -1;
+        }
+    }
+
+    /**
+     * Deshace las asignaciones hasta el nivel indicado, guardando la fase de cada variable.
+     *
+     * @param targetLevel Nivel al que se retrocede
+     */
+    private void cancelUntil(int targetLevel) {
+        if (decisionLevel() <= targetLevel) {
+            return;
+        }
+        int start = trailLim.data[targetLevel];
+        for (int k = trail.size - 1; k >= start; k--) {
+            int lit = trail.data[k];
+            int v = lit >> 1;
+            polarity[v] = (lit & 1) == 0;
+            assigns[v] = UNDEF;
+            reason[v] = -1;
+            if (!heap.contains(v)) {
+                heap.insert(v);
+            }
+        }
+        trail.size = start;
+        trailLim.size = targetLevel;
+        qhead = start;
+    }
+
+    /**
+     * Elige la siguiente variable de decisión, la de mayor actividad sin asignar.
+     *
+     * @return Variable elegida, o -1 si todas están asignadas
+     */
+    private int pickBranchVariable() {
+        while (!heap.isEmpty()) {
+            int v = heap.removeMax();
+            if (assigns[v] == UNDEF) {
+                return v;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Aumenta la actividad de una variable y reescala si es necesario.
+     *
+     * @param v Variable
+     */
+    private void bumpActivity(int v) {
+        activity[v] += varInc;
+        if (activity[v] > 1e100) {
+            for (int i = 0; i < varCount; i++) {
+                activity[i] *= 1e-100;
+            }
+            varInc *= 1e-100;
+        }
+        if (heap.contains(v)) {
+            heap.increased(v);
+        }
+    }
+
+    /**
+     * Asigna un literal como verdadero.
+     *
+     * @param lit Literal interno
+     * @param from Cláusula que lo implica, o -1 si es una decisión
+     */
+    private void enqueue(int lit, int from) {
+        int v = lit >> 1;
+        assigns[v] = (lit & 1) == 0 ? TRUE : FALSE;
+        level[v] = decisionLevel();
+        reason[v] = from;
+        trail.add(lit);
+    }
+
+    /**
+     * Obtiene el valor actual de un literal.
+     *
+     * @param lit Literal interno
+     * @return TRUE, FALSE o UNDEF
+     */
+    private byte litValue(int lit) {
+        byte val = assigns[lit >> 1];
+        return (lit & 1) == 0 ? val : (byte) -val;
+    }
+
+    /**
+     * Obtiene el nivel de decisión actual.
+     *
+     * @return Nivel de decisión
+     */
+    private int decisionLevel() {
+        return trailLim.size;
+    }
+
+    /**
+     * Copia la asignación completa actual como modelo.
+     */
+    private void saveModel() {
+        model = new boolean[varCount];
+        for (int v = 0; v < varCount; v++) {
+            model[v] = assigns[v] == TRUE;
+        }
+    }
+
+    /**
+     * Calcula el término i de la secuencia de Luby (1, 1, 2, 1, 1, 2, 4, ...).
+     *
+     * @param i Índice desde 0
+     * @return Término de la secuencia
+     */
+    static int luby(int i) {
+        int size = 1;
+        int seq = 0;
+        while (size < i + 1) {
+            seq++;
+            size = 2 * size + 1;
+        }
+        int x = i;
+        while (size - 1 != x) {
+            size = (size - 1) >> 1;
+            seq--;
+            x = x % size;
+        }
+        return 1 << seq;
+    }
+}
@@ -0,0 +1,86 @@
+package model.sat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fórmula en forma normal conjuntiva (CNF).
+ * Las variables se numeran desde 1 y los literales usan la convención de
+ * DIMACS: {@code v} es la variable verdadera y {@code -v} la variable falsa.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class CnfFormula {
+
+    /** Número de variables de la fórmula */
+    private final int variableCount;
+
+    /** Cláusulas de la fórmula */
+    private final List<int[]> clauses = new ArrayList<>();
+
+    /**
+     * Constructor que crea una fórmula vacía.
+     *
+     * @param variableCount Número de variables
+     */
+    public CnfFormula(int variableCount) {
+        this.variableCount = variableCount;
+    }
+
+    /**
+     * Agrega una cláusula (disyunción de literales).
+     *
+     * @param literals Literales de la cláusula en formato DIMACS
+     */
+    public void addClause(int... literals) {
+        for (int literal : literals) {
+            if (literal == 0 || Math.abs(literal) > variableCount) {
+                throw new IllegalArgumentException("Literal fuera de rango: " + literal);
+            }
+        }
+        clauses.add(literals.clone());
+    }
+
+    /**
+     * Obtiene el número de variables.
+     *
+     * @return Número de variables
+     */
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    /**
+     * Obtiene las cláusulas de la fórmula.
+     *
+     * @return Lista no modificable de cláusulas
+     */
+    public List<int[]> getClauses() {
+        return Collections.unmodifiableList(clauses);
+    }
+
+    /**
+     * Escribe la fórmula en formato DIMACS para comparar con otros resolvedores.
+     *
+     * @param out Destino de la escritura
+     * @throws IOException Si ocurre un error de escritura
+     */
+    public void writeDimacs(Writer out) throws IOException {
+        out.write("p cnf " + variableCount + " " + clauses.size() + "\n");
+        StringBuilder line = new StringBuilder();
+        for (int[] clause : clauses) {
+            line.setLength(0);
+            for (int literal : clause) {
+                line.append(literal).append(' ');
+            }
+            line.append("0\n");
+            out.write(line.toString());
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,50 @@
+package model.sat;
+
+import java.util.Arrays;
+
+/**
+ * Lista creciente de enteros primitivos, sin cajas, para las estructuras del resolvedor.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class IntList {
+
+    /** Elementos de la lista */
+    int[] data;
+
+    /** Número de elementos usados */
+    int size;
+
+    /**
+     * Constructor que crea una lista con capacidad inicial.
+     *
+     * @param capacity Capacidad inicial
+     */
+    IntList(int capacity) {
+        data = new int[Math.max(capacity, 2)];
+    }
+
+    /**
+     * Agrega un elemento al final.
+     *
+     * @param value Elemento a agregar
+     */
+    void add(int value) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, size * 2);
+        }
+        data[size++] = value;
+    }
+
+    /**
+     * Obtiene un elemento.
+     *
+     * @param index Posición del elemento
+     * @return Elemento en esa posición
+     */
+    int get(int index) {
+        return data[index];
+    }
+}
@@ -0,0 +1,105 @@
+package model.sat;
+
+import model.BoardSnapshot;
+import model.SudokuBoard;
+import model.rules.CompiledRules;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Resuelve tableros de Sudoku de cualquier forma de bloque con el resolvedor CDCL.
+ * Pensado para tableros grandes (25x25 o más), donde la búsqueda con
+ * retroceso puede tardar demasiado en instancias difíciles.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class SatSudokuSolver {
+
+    /**
+     * Resuelve los valores de un tablero.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @return Valores del tablero resuelto, o null si no tiene solución
+     */
+    public int[] solve(CompiledRules rules, int[] cells) {
+        return solve(rules, cells, () -> false);
+    }
+
+    /**
+     * Resuelve los valores de un tablero, deteniéndose cuando se cumpla la condición de parada.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     * @param stop Condición de parada
+     * @return Valores del tablero resuelto, o null si no tiene solución o se detuvo
+     */
+    public int[] solve(CompiledRules rules, int[] cells, BooleanSupplier stop) {
+        if (!rules.isValid(cells)) {
+            return null;
+        }
+        SudokuCnfEncoder encoder = new SudokuCnfEncoder(rules, cells);
+        CdclSolver solver = new CdclSolver();
+        if (solver.solve(encoder.getFormula(), stop) != CdclSolver.Result.SATISFIABLE) {
+            return null;
+        }
+        return encoder.decode(solver);
+    }
+
+    /**
+     * Resuelve un tablero del juego a partir de sus números iniciales y
+     * coloca la solución en las celdas editables.
+     *
+     * @param board Tablero del juego
+     * @return true si se encontró una solución, false en caso contrario
+     */
+    public boolean solve(SudokuBoard board) {
+        int size = board.getSize();
+        int[] solution = solve(board.getCompiledRules(), readCells(board, true));
+        if (solution == null) {
+            return false;
+        }
+
+        // Vaciar primero las celdas editables para que cada número sea válido al colocarlo
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                board.placeNumber(row, col, 0);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (board.isCellEditable(row, col)) {
+                    board.placeNumber(row, col, solution[row * size + col]);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Escribe la fórmula CNF del estado actual de un tablero en formato DIMACS.
+     *
+     * @param board Tablero del juego
+     * @param out Destino de la escritura
+     * @throws IOException Si ocurre un error de escritura
+     */
+    public void exportDimacs(SudokuBoard board, Writer out) throws IOException {
+        new SudokuCnfEncoder(board.getCompiledRules(), readCells(board, false)).getFormula().writeDimacs(out);
+    }
+
+    /**
+     * Lee los valores de un tablero en orden plano.
+     *
+     * @param board Tablero del juego
+     * @param cluesOnly true para leer solo los números iniciales (celdas no editables)
+     * @return Valores del tablero
+     */
+    private static int[] readCells(SudokuBoard board, boolean cluesOnly) {
+        BoardSnapshot snapshot = board.snapshot();
+        return cluesOnly ? snapshot.copyClues() : snapshot.copyCells();
+    }
+}
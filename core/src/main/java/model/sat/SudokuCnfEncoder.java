@@ -0,0 +1,200 @@
+package model.sat;
+
+import model.rules.CompiledRules;
+
+import java.util.Arrays;
+
+/**
+ * Codifica un tablero de Sudoku en CNF y decodifica el modelo de vuelta.
+ * Solo se crean variables para los candidatos de las celdas vacías (los
+ * números que ningún vecino tiene ya), lo que reduce mucho la fórmula en
+ * tableros grandes. Cada celda vacía toma exactamente un candidato y cada
+ * número aparece como máximo una vez por unidad (y al menos una vez en las
+ * unidades completas).
+ *
+ * Las sumas de las jaulas Killer no se codifican, así que esas reglas no se aceptan.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class SudokuCnfEncoder {
+
+    /** Reglas compiladas del tablero */
+    private final CompiledRules rules;
+
+    /** Valores iniciales del tablero */
+    private final int[] cells;
+
+    /** Variable DIMACS de cada par (celda, número), o 0 si no existe */
+    private final int[] variableOf;
+
+    /** Celda de cada variable (índice desde 1) */
+    private int[] cellOfVariable;
+
+    /** Número de cada variable (índice desde 1) */
+    private int[] valueOfVariable;
+
+    /** Fórmula generada */
+    private final CnfFormula formula;
+
+    /**
+     * Constructor que codifica un tablero.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía)
+     */
+    public SudokuCnfEncoder(CompiledRules rules, int[] cells) {
+        if (rules.hasCages()) {
+            throw new IllegalArgumentException("La codificación CNF no soporta jaulas con suma");
+        }
+        this.rules = rules;
+        this.cells = cells.clone();
+
+        int size = rules.getSize();
+        variableOf = new int[rules.getCellCount() * (size + 1)];
+        int count = createVariables();
+        formula = new CnfFormula(count);
+        encodeCells();
+        encodeUnits();
+    }
+
+    /**
+     * Crea una variable por cada candidato de cada celda vacía.
+     *
+     * @return Número de variables creadas
+     */
+    private int createVariables() {
+        int size = rules.getSize();
+        int next = 0;
+        cellOfVariable = new int[16];
+        valueOfVariable = new int[16];
+
+        for (int cell = 0; cell < rules.getCellCount(); cell++) {
+            if (cells[cell] != 0) {
+                continue;
+            }
+            int used = rules.usedMask(cells, cell);
+            for (int num = 1; num <= size; num++) {
+                if ((used & (1 << num)) == 0) {
+                    next++;
+                    if (next >= cellOfVariable.length) {
+                        cellOfVariable = Arrays.copyOf(cellOfVariable, next * 2);
+                        valueOfVariable = Arrays.copyOf(valueOfVariable, next * 2);
+                    }
+                    variableOf[cell * (size + 1) + num] = next;
+                    cellOfVariable[next] = cell;
+                    valueOfVariable[next] = num;
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Cada celda vacía tiene exactamente un número.
+     */
+    private void encodeCells() {
+        int size = rules.getSize();
+        int[] vars = new int[size];
+
+        for (int cell = 0; cell < rules.getCellCount(); cell++) {
+            if (cells[cell] != 0) {
+                continue;
+            }
+            int n = 0;
+            for (int num = 1; num <= size; num++) {
+                int v = variableOf[cell * (size + 1) + num];
+                if (v != 0) {
+                    vars[n++] = v;
+                }
+            }
+            // Una celda sin candidatos produce una cláusula vacía: el tablero no tiene solución
+            formula.addClause(Arrays.copyOf(vars, n));
+            atMostOne(vars, n);
+        }
+    }
+
+    /**
+     * Cada número aparece como máximo una vez por unidad, y al menos una vez
+     * en las unidades que cubren todos los números.
+     */
+    private void encodeUnits() {
+        int size = rules.getSize();
+        int[] vars = new int[size];
+
+        for (int[] unit : rules.getUnits()) {
+            int placed = 0;
+            for (int cell : unit) {
+                placed |= 1 << cells[cell];
+            }
+
+            for (int num = 1; num <= size; num++) {
+                if ((placed & (1 << num)) != 0) {
+                    continue; // ya está en la unidad, los vecinos no tienen ese candidato
+                }
+                int n = 0;
+                for (int cell : unit) {
+                    int v = variableOf[cell * (size + 1) + num];
+                    if (v != 0) {
+                        vars[n++] = v;
+                    }
+                }
+                if (unit.length == size) {
+                    formula.addClause(Arrays.copyOf(vars, n));
+                }
+                atMostOne(vars, n);
+            }
+        }
+    }
+
+    /**
+     * Agrega las cláusulas binarias que impiden que dos variables sean verdaderas a la vez.
+     *
+     * @param vars Variables
+     * @param n Número de variables usadas del arreglo
+     */
+    private void atMostOne(int[] vars, int n) {
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                formula.addClause(-vars[i], -vars[j]);
+            }
+        }
+    }
+
+    /**
+     * Obtiene la fórmula generada.
+     *
+     * @return Fórmula CNF
+     */
+    public CnfFormula getFormula() {
+        return formula;
+    }
+
+    /**
+     * Obtiene la variable DIMACS que representa un número en una celda.
+     *
+     * @param cell Índice plano de la celda
+     * @param num Número
+     * @return Variable, o 0 si el número no es candidato de esa celda
+     */
+    public int variable(int cell, int num) {
+        return variableOf[cell * (rules.getSize() + 1) + num];
+    }
+
+    /**
+     * Convierte el modelo del resolvedor en los valores del tablero.
+     *
+     * @param solver Resolvedor con un modelo encontrado
+     * @return Valores del tablero resuelto en orden plano
+     */
+    public int[] decode(CdclSolver solver) {
+        int[] result = cells.clone();
+        for (int v = 1; v <= formula.getVariableCount(); v++) {
+            if (solver.value(v)) {
+                result[cellOfVariable[v]] = valueOfVariable[v];
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,139 @@
+package model.sat;
+
+import java.util.Arrays;
+
+/**
+ * Montículo binario de variables ordenado por actividad (la mayor arriba).
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class VarHeap {
+
+    /** Actividad de las variables, compartida con el resolvedor */
+    private final double[] activity;
+
+    /** Variables del montículo */
+    private int[] heap;
+
+    /** Posición de cada variable en el montículo, o -1 si no está */
+    private final int[] indices;
+
+    /** Número de variables en el montículo */
+    private int size;
+
+    /**
+     * Constructor que crea un montículo vacío.
+     *
+     * @param activity Actividad de las variables
+     */
+    VarHeap(double[] activity) {
+        this.activity = activity;
+        this.heap = new int[activity.length];
+        this.indices = new int[activity.length];
+        Arrays.fill(indices, -1);
+    }
+
+    /**
+     * Indica si el montículo está vacío.
+     *
+     * @return true si no hay variables
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Indica si una variable está en el montículo.
+     *
+     * @param v Variable
+     * @return true si la variable está en el montículo
+     */
+    boolean contains(int v) {
+        return indices[v] >= 0;
+    }
+
+    /**
+     * Inserta una variable.
+     *
+     * @param v Variable
+     */
+    void insert(int v) {
+        heap[size] = v;
+        indices[v] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Reubica una variable cuya actividad aumentó.
+     *
+     * @param v Variable
+     */
+    void increased(int v) {
+        siftUp(indices[v]);
+    }
+
+    /**
+     * Extrae la variable de mayor actividad.
+     *
+     * @return Variable extraída
+     */
+    int removeMax() {
+        int top = heap[0];
+        indices[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            indices[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Sube un elemento hasta su posición.
+     *
+     * @param pos Posición inicial
+     */
+    private void siftUp(int pos) {
+        int v = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >> 1;
+            if (activity[heap[parent]] >= activity[v]) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            indices[heap[pos]] = pos;
+            pos = parent;
+        }
+        heap[pos] = v;
+        indices[v] = pos;
+    }
+
+    /**
+     * Baja un elemento hasta su posición.
+     *
+     * @param pos Posición inicial
+     */
+    private void siftDown(int pos) {
+        int v = heap[pos];
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && activity[heap[child + 1]] > activity[heap[child]]) {
+                child++;
+            }
+            if (activity[heap[child]] <= activity[v]) {
+                break;
+            }
+            heap[pos] = heap[child];
+            indices[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = v;
+        indices[v] = pos;
+    }
+}
@@ -0,0 +1,64 @@
+package model.session;
+
+/**
+ * Estado de una partida alojada en el {@link GameSessionManager}.
+ * Guarda el tablero empaquetado en bytes y las celdas fijas en un mapa de
+ * bits para ocupar poca memoria con cientos de miles de partidas.
+ * No es segura para hilos: el administrador la protege con sus candados.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class GameSession {
+
+    /** Identificador de la partida */
+    final long id;
+
+    /** Valores del tablero en orden plano (0 = vacía) */
+    final byte[] values;
+
+    /** Mapa de bits de las celdas fijas (números iniciales) */
+    final long[] fixed;
+
+    /** Número de celdas con número */
+    int filled;
+
+    /** Ayudas usadas */
+    int hintsUsed;
+
+    /** Última vez que se usó la partida, en nanosegundos de {@link System#nanoTime()} */
+    volatile long lastAccess;
+
+    /**
+     * Constructor que crea una partida.
+     *
+     * @param id Identificador de la partida
+     * @param cellCount Número de celdas del tablero
+     */
+    GameSession(long id, int cellCount) {
+        this.id = id;
+        this.values = new byte[cellCount];
+        this.fixed = new long[(cellCount + 63) >>> 6];
+        this.lastAccess = System.nanoTime();
+    }
+
+    /**
+     * Indica si una celda es fija.
+     *
+     * @param cell Índice plano de la celda
+     * @return true si la celda es un número inicial
+     */
+    boolean isFixed(int cell) {
+        return (fixed[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Marca una celda como fija.
+     *
+     * @param cell Índice plano de la celda
+     */
+    void setFixed(int cell) {
+        fixed[cell >>> 6] |= 1L << cell;
+    }
+}
@@ -0,0 +1,476 @@
+package model.session;
+
+import model.SudokuBoard;
+import model.rules.CompiledRules;
+import model.rules.SudokuRules;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Motor sin interfaz gráfica que aloja muchas partidas independientes en una sola JVM.
+ * Las partidas se indexan por identificador y guardan el tablero empaquetado
+ * en bytes. Cada operación toma el candado de la franja que corresponde al
+ * identificador, así que partidas distintas casi nunca compiten entre sí.
+ * Las partidas inactivas se guardan en disco y se quitan de memoria; se
+ * vuelven a cargar de forma transparente en el siguiente acceso.
+ *
+ * Todas las partidas usan la misma variante de reglas, compilada una sola vez.
+ * Esta clase está pensada para que un adaptador de servidor delgado la llame directamente.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class GameSessionManager implements AutoCloseable {
+
+    /** Número de franjas de candados (potencia de dos) */
+    private static final int STRIPES = 1024;
+
+    /** Marca de los archivos de partidas guardadas */
+    private static final int FILE_MAGIC = 0x53554431; // "SUD1"
+
+    /** Registro de los errores del desalojo en segundo plano */
+    private static final System.Logger LOG = System.getLogger(GameSessionManager.class.getName());
+
+    /** Reglas compiladas compartidas por todas las partidas */
+    private final CompiledRules rules;
+
+    /** Partidas en memoria */
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+
+    /** Candados por franja de identificadores */
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    /** Generador de identificadores */
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /** Directorio donde se guardan las partidas inactivas */
+    private final Path evictionDirectory;
+
+    /** Tiempo sin uso tras el cual una partida se guarda en disco */
+    private final long idleNanos;
+
+    /** Tarea periódica de desalojo, o null si no se inició */
+    private ScheduledExecutorService evictor;
+
+    /**
+     * Constructor que crea el administrador. Los identificadores nuevos empiezan
+     * después del mayor de las partidas guardadas en el directorio, así una partida
+     * nueva nunca reemplaza a una desalojada antes de reiniciar.
+     *
+     * @param rules Reglas de la variante de todas las partidas
+     * @param evictionDirectory Directorio donde se guardan las partidas inactivas
+     * @param idleTimeout Tiempo sin uso tras el cual una partida se guarda en disco
+     */
+    public GameSessionManager(SudokuRules rules, Path evictionDirectory, Duration idleTimeout) {
+        this.rules = rules.compile();
+        this.evictionDirectory = evictionDirectory;
+        this.idleNanos = idleTimeout.toNanos();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        try {
+            Files.createDirectories(evictionDirectory);
+            nextId.set(largestSavedId() + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el directorio de partidas", e);
+        }
+    }
+
+    /**
+     * Crea una partida nueva con números iniciales.
+     *
+     * @return Identificador de la partida
+     */
+    public long createGame() {
+        SudokuBoard board = new SudokuBoard(rules);
+        board.initializeGame();
+
+        int size = rules.getSize();
+        long id = nextId.getAndIncrement();
+        GameSession session = new GameSession(id, rules.getCellCount());
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int value = board.getCellValue(row, col);
+                if (value != 0) {
+                    session.values[row * size + col] = (byte) value;
+                    session.setFixed(row * size + col);
+                    session.filled++;
+                }
+            }
+        }
+        sessions.put(id, session);
+        return id;
+    }
+
+    /**
+     * Coloca un número en una celda de una partida; 0 borra la celda.
+     *
+     * @param id Identificador de la partida
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param num Número a colocar (0 para borrar)
+     * @return Resultado del movimiento
+     */
+    public MoveResult place(long id, int row, int col, int num) {
+        int size = rules.getSize();
+        if (row < 0 || row >= size || col < 0 || col >= size) {
+            return MoveResult.NOT_EDITABLE;
+        }
+        if (num < 0 || num > size) {
+            return MoveResult.INVALID;
+        }
+
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            GameSession session = acquire(id);
+            if (session == null) {
+                return MoveResult.NO_SESSION;
+            }
+            int cell = row * size + col;
+            if (session.isFixed(cell)) {
+                return MoveResult.NOT_EDITABLE;
+            }
+
+            int previous = session.values[cell];
+            if (num == 0) {
+                session.values[cell] = 0;
+                session.filled -= previous != 0 ? 1 : 0;
+                return MoveResult.PLACED;
+            }
+            if (!rules.isValidPlacement(session.values, cell, num)) {
+                return MoveResult.INVALID;
+            }
+            session.values[cell] = (byte) num;
+            session.filled += previous == 0 ? 1 : 0;
+
+            // Solo se valida el tablero completo cuando ya no quedan celdas vacías
+            if (session.filled == rules.getCellCount() && rules.isComplete(session.values)) {
+                return MoveResult.COMPLETED;
+            }
+            return MoveResult.PLACED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Proporciona un número válido para una celda vacía como ayuda.
+     *
+     * @param id Identificador de la partida
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Un número válido para esa celda, o 0 si no hay ayuda posible
+     */
+    public int hint(long id, int row, int col) {
+        int size = rules.getSize();
+        if (row < 0 || row >= size || col < 0 || col >= size) {
+            return 0;
+        }
+
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            GameSession session = acquire(id);
+            int cell = row * size + col;
+            if (session == null || session.isFixed(cell) || session.values[cell] != 0) {
+                return 0;
+            }
+            for (int num = 1; num <= size; num++) {
+                if (rules.isValidPlacement(session.values, cell, num)) {
+                    session.hintsUsed++;
+                    return num;
+                }
+            }
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene una copia del estado de una partida.
+     *
+     * @param id Identificador de la partida
+     * @return Estado de la partida, o null si no existe
+     */
+    public GameState state(long id) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            GameSession session = acquire(id);
+            if (session == null) {
+                return null;
+            }
+            return new GameState(session, rules.getSize(), isComplete(session));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Verifica si una partida está completa.
+     *
+     * @param id Identificador de la partida
+     * @return true si el tablero está lleno y es válido, false en caso contrario o si no existe
+     */
+    public boolean isComplete(long id) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            GameSession session = acquire(id);
+            return session != null && isComplete(session);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Elimina una partida de memoria y de disco.
+     *
+     * @param id Identificador de la partida
+     */
+    public void remove(long id) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            sessions.remove(id);
+            Files.deleteIfExists(fileFor(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo borrar la partida " + id, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Guarda en disco y quita de memoria las partidas inactivas.
+     * Si una partida no se puede guardar (por ejemplo, con el disco lleno) se
+     * registra el error y la partida sigue en memoria para el próximo intento.
+     *
+     * @return Número de partidas desalojadas
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (GameSession candidate : sessions.values()) {
+            if (now - candidate.lastAccess < idleNanos) {
+                continue;
+            }
+            ReentrantLock lock = lockFor(candidate.id);
+            lock.lock();
+            try {
+                // Volver a comprobar dentro del candado: pudo usarse mientras tanto
+                GameSession session = sessions.get(candidate.id);
+                if (session != null && now - session.lastAccess >= idleNanos) {
+                    write(session);
+                    sessions.remove(session.id);
+                    evicted++;
+                }
+            } catch (UncheckedIOException e) {
+                LOG.log(System.Logger.Level.WARNING, "No se pudo desalojar la partida " + candidate.id, e);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Inicia el desalojo periódico de partidas inactivas en un hilo de fondo.
+     *
+     * @param period Intervalo entre revisiones
+     */
+    public synchronized void startEviction(Duration period) {
+        if (evictor != null) {
+            return;
+        }
+        evictor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "sudoku-session-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::runEviction, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ejecuta un desalojo periódico. Una excepción que escapara cancelaría la
+     * tarea para siempre, así que se registra y la siguiente revisión sigue normalmente.
+     */
+    private void runEviction() {
+        try {
+            evictIdle();
+        } catch (RuntimeException e) {
+            LOG.log(System.Logger.Level.ERROR, "Falló el desalojo de partidas inactivas", e);
+        }
+    }
+
+    /**
+     * Obtiene el número de partidas en memoria.
+     *
+     * @return Partidas en memoria
+     */
+    public int getResidentCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Detiene el desalojo periódico. Las partidas en memoria no se guardan.
+     */
+    @Override
+    public synchronized void close() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+            evictor = null;
+        }
+    }
+
+    /**
+     * Obtiene una partida de memoria o de disco y marca su uso.
+     * Se debe llamar con el candado de la franja tomado.
+     *
+     * @param id Identificador de la partida
+     * @return Partida, o null si no existe
+     */
+    private GameSession acquire(long id) {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            session = read(id);
+            if (session == null) {
+                return null;
+            }
+            sessions.put(id, session);
+        }
+        session.lastAccess = System.nanoTime();
+        return session;
+    }
+
+    /**
+     * Verifica si una partida está completa usando el contador de celdas llenas.
+     *
+     * @param session Partida
+     * @return true si la partida está completa
+     */
+    private boolean isComplete(GameSession session) {
+        return session.filled == rules.getCellCount() && rules.isComplete(session.values);
+    }
+
+    /**
+     * Obtiene el candado de la franja de un identificador.
+     *
+     * @param id Identificador de la partida
+     * @return Candado de la franja
+     */
+    private ReentrantLock lockFor(long id) {
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return locks[(int) (mixed >>> 54) & (STRIPES - 1)];
+    }
+
+    /**
+     * Busca el mayor identificador entre las partidas guardadas en el directorio.
+     *
+     * @return Mayor identificador, o 0 si no hay partidas guardadas
+     * @throws IOException Si el directorio no se puede leer
+     */
+    private long largestSavedId() throws IOException {
+        long largest = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(evictionDirectory, "*.session")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    largest = Math.max(largest, Long.parseLong(name.substring(0, name.length() - ".session".length())));
+                } catch (NumberFormatException e) {
+                    // No es un archivo de partida
+                }
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Obtiene el archivo donde se guarda una partida desalojada.
+     *
+     * @param id Identificador de la partida
+     * @return Ruta del archivo
+     */
+    private Path fileFor(long id) {
+        return evictionDirectory.resolve(id + ".session");
+    }
+
+    /**
+     * Guarda una partida en disco. Se escribe en un archivo temporal y luego
+     * se renombra para no dejar archivos a medias.
+     *
+     * @param session Partida
+     */
+    private void write(GameSession session) {
+        Path file = fileFor(session.id);
+        Path temp = evictionDirectory.resolve(session.id + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(rules.getSize());
+            out.writeInt(session.hintsUsed);
+            out.write(session.values);
+            for (long word : session.fixed) {
+                out.writeLong(word);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar la partida " + session.id, e);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar la partida " + session.id, e);
+        }
+    }
+
+    /**
+     * Lee una partida guardada en disco. El archivo se conserva hasta que la partida
+     * se vuelva a guardar (que lo reemplaza) o se elimine, así una caída mientras
+     * la partida está en memoria no la pierde.
+     *
+     * @param id Identificador de la partida
+     * @return Partida, o null si no hay archivo
+     */
+    private GameSession read(long id) {
+        Path file = fileFor(id);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        GameSession session = new GameSession(id, rules.getCellCount());
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != rules.getSize()) {
+                throw new IOException("Archivo de partida inválido: " + file);
+            }
+            session.hintsUsed = in.readInt();
+            in.readFully(session.values);
+            for (int i = 0; i < session.fixed.length; i++) {
+                session.fixed[i] = in.readLong();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cargar la partida " + id, e);
+        }
+        for (byte value : session.values) {
+            session.filled += value != 0 ? 1 : 0;
+        }
+        return session;
+    }
+}
@@ -0,0 +1,104 @@
+package model.session;
+
+/**
+ * Copia inmutable del estado de una partida, para enviarla a un cliente.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class GameState {
+
+    /** Identificador de la partida */
+    private final long id;
+
+    /** Tamaño del tablero */
+    private final int size;
+
+    /** Valores del tablero en orden plano */
+    private final byte[] values;
+
+    /** Mapa de bits de las celdas fijas */
+    private final long[] fixed;
+
+    /** Ayudas usadas */
+    private final int hintsUsed;
+
+    /** Indica si la partida está completa */
+    private final boolean complete;
+
+    /**
+     * Constructor que copia el estado de una partida.
+     *
+     * @param session Partida
+     * @param size Tamaño del tablero
+     * @param complete true si la partida está completa
+     */
+    GameState(GameSession session, int size, boolean complete) {
+        this.id = session.id;
+        this.size = size;
+        this.values = session.values.clone();
+        this.fixed = session.fixed.clone();
+        this.hintsUsed = session.hintsUsed;
+        this.complete = complete;
+    }
+
+    /**
+     * Obtiene el identificador de la partida.
+     *
+     * @return Identificador
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el tamaño del tablero.
+     *
+     * @return Tamaño del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtiene el valor de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Valor de la celda, o 0 si está vacía
+     */
+    public int getCellValue(int row, int col) {
+        return values[row * size + col];
+    }
+
+    /**
+     * Verifica si una celda es editable.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return true si la celda es editable, false si es un número inicial
+     */
+    public boolean isCellEditable(int row, int col) {
+        int cell = row * size + col;
+        return (fixed[cell >>> 6] & (1L << cell)) == 0;
+    }
+
+    /**
+     * Obtiene el número de ayudas usadas.
+     *
+     * @return Ayudas usadas
+     */
+    public int getHintsUsed() {
+        return hintsUsed;
+    }
+
+    /**
+     * Indica si la partida está completa.
+     *
+     * @return true si el tablero está lleno y es válido
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -0,0 +1,21 @@
+package model.session;
+
+/**
+ * Resultado de colocar o borrar un número en una partida.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public enum MoveResult {
+    /** El número se colocó o se borró */
+    PLACED,
+    /** El número se colocó y completó el tablero */
+    COMPLETED,
+    /** El número no cumple las reglas o está fuera de rango */
+    INVALID,
+    /** La celda es un número inicial o la posición está fuera del tablero */
+    NOT_EDITABLE,
+    /** No existe una partida con ese identificador */
+    NO_SESSION
+}
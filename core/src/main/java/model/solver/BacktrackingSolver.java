@@ -0,0 +1,222 @@
+package model.solver;
+
+import model.rules.CompiledRules;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Estrategia de búsqueda con retroceso que siempre elige la celda con menos
+ * candidatos (MRV, mínimo de valores restantes). Soporta todas las variantes,
+ * incluidas las jaulas Killer, porque verifica cada número con las reglas compiladas.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class BacktrackingSolver implements SudokuSolver {
+
+    /** Cada cuántos nodos se consulta la condición de parada */
+    private static final int STOP_CHECK_INTERVAL = 1024;
+
+    @Override
+    public String getName() {
+        return "backtracking-mrv";
+    }
+
+    @Override
+    public boolean supports(CompiledRules rules) {
+        return true;
+    }
+
+    @Override
+    public int[] solve(CompiledRules rules, int[] cells, BooleanSupplier stop) {
+        return solve(rules, cells, stop, null);
+    }
+
+    /**
+     * Resuelve un tablero avisando cada número colocado y cada retroceso.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía); no se modifica
+     * @param stop Condición de parada
+     * @param listener Receptor de los pasos, o null
+     * @return Valores del tablero resuelto, o null si no se encontró solución
+     */
+    public int[] solve(CompiledRules rules, int[] cells, BooleanSupplier stop, SolverListener listener) {
+        int[] work = cells.clone();
+        if (!rules.isValid(work)) {
+            return null;
+        }
+        Search search = new Search(rules, work, stop, 1);
+        search.listener = listener;
+        search.run();
+        return search.found > 0 && !search.stopped ? search.firstSolution : null;
+    }
+
+    /**
+     * Cuenta las soluciones de un tablero hasta un límite. Con límite 2 sirve
+     * para saber si la solución es única.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía); no se modifica
+     * @param limit Número de soluciones a partir del cual se deja de buscar
+     * @return Número de soluciones encontradas (como máximo {@code limit})
+     */
+    public int countSolutions(CompiledRules rules, int[] cells, int limit) {
+        int[] work = cells.clone();
+        if (!rules.isValid(work)) {
+            return 0;
+        }
+        Search search = new Search(rules, work, () -> false, limit);
+        search.run();
+        return (int) search.found;
+    }
+
+    /**
+     * Recorre las soluciones de un tablero hasta un límite, en un orden fijo:
+     * el mismo tablero siempre entrega las mismas soluciones en el mismo orden.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía); no se modifica
+     * @param limit Número de soluciones a partir del cual se deja de buscar
+     * @param stop Condición de parada
+     * @param consumer Receptor de cada solución; el arreglo se reutiliza, se debe copiar para conservarlo
+     * @return Número de soluciones entregadas
+     */
+    public long forEachSolution(CompiledRules rules, int[] cells, long limit, BooleanSupplier stop,
+                                Consumer<int[]> consumer) {
+        int[] work = cells.clone();
+        if (!rules.isValid(work)) {
+            return 0;
+        }
+        Search search = new Search(rules, work, stop, limit);
+        search.consumer = consumer;
+        search.run();
+        return search.found;
+    }
+
+    /**
+     * Estado de una búsqueda.
+     */
+    private static final class Search {
+
+        /** Reglas compiladas */
+        private final CompiledRules rules;
+
+        /** Valores del tablero que se van llenando */
+        private final int[] work;
+
+        /** Condición de parada */
+        private final BooleanSupplier stop;
+
+        /** Número de soluciones a partir del cual se termina */
+        private final long limit;
+
+        /** Máscara con todos los números válidos */
+        private final int full;
+
+        /** Número de soluciones encontradas */
+        private long found;
+
+        /** Primera solución encontrada */
+        private int[] firstSolution;
+
+        /** Indica si la búsqueda se detuvo por la condición de parada */
+        private boolean stopped;
+
+        /** Nodos visitados */
+        private long nodes;
+
+        /** Receptor de los pasos, o null */
+        private SolverListener listener;
+
+        /** Receptor de cada solución, o null si solo se guarda la primera */
+        private Consumer<int[]> consumer;
+
+        /**
+         * Constructor que prepara una búsqueda.
+         *
+         * @param rules Reglas compiladas
+         * @param work Valores del tablero
+         * @param stop Condición de parada
+         * @param limit Número de soluciones a partir del cual se termina
+         */
+        Search(CompiledRules rules, int[] work, BooleanSupplier stop, long limit) {
+            this.rules = rules;
+            this.work = work;
+            this.stop = stop;
+            this.limit = limit;
+            this.full = rules.fullMask();
+        }
+
+        /**
+         * Ejecuta la búsqueda.
+         */
+        void run() {
+            search();
+        }
+
+        /**
+         * Busca recursivamente.
+         *
+         * @return true si hay que terminar la búsqueda
+         */
+        private boolean search() {
+            if ((++nodes % STOP_CHECK_INTERVAL) == 0 && stop.getAsBoolean()) {
+                stopped = true;
+                return true;
+            }
+
+            // MRV: la celda vacía con menos candidatos
+            int best = -1;
+            int bestCandidates = 0;
+            int bestCount = Integer.MAX_VALUE;
+            for (int cell = 0; cell < work.length; cell++) {
+                if (work[cell] != 0) {
+                    continue;
+                }
+                int candidates = full & ~rules.usedMask(work, cell);
+                int count = Integer.bitCount(candidates);
+                if (count < bestCount) {
+                    best = cell;
+                    bestCandidates = candidates;
+                    bestCount = count;
+                    if (count <= 1) {
+                        break;
+                    }
+                }
+            }
+
+            if (best < 0) {
+                found++;
+                if (consumer != null) {
+                    consumer.accept(work);
+                } else if (firstSolution == null) {
+                    firstSolution = work.clone();
+                }
+                return found >= limit;
+            }
+
+            while (bestCandidates != 0) {
+                int num = Integer.numberOfTrailingZeros(bestCandidates);
+                bestCandidates &= bestCandidates - 1;
+                if (rules.isValidPlacement(work, best, num)) {
+                    work[best] = num;
+                    if (listener != null) {
+                        listener.onPlace(best, num);
+                    }
+                    if (search()) {
+                        work[best] = 0;
+                        return true;
+                    }
+                    work[best] = 0;
+                    if (listener != null) {
+                        listener.onBacktrack(best);
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
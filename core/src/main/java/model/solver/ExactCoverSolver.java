@@ -0,0 +1,285 @@
+package model.solver;
+
+import model.rules.CompiledRules;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Estrategia de cobertura exacta con el algoritmo X de Knuth y enlaces
+ * danzantes (DLX). Cada fila de la matriz es un par (celda, número) y cada
+ * columna una restricción: la celda tiene un número, o el número aparece en
+ * la unidad. Las unidades incompletas (más cortas que el tablero) se tratan
+ * como columnas secundarias, que pueden quedar sin cubrir.
+ *
+ * Los enlaces se guardan en arreglos de enteros en lugar de objetos.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class ExactCoverSolver implements SudokuSolver {
+
+    /** Cada cuántos nodos se consulta la condición de parada */
+    private static final int STOP_CHECK_INTERVAL = 1024;
+
+    @Override
+    public String getName() {
+        return "exact-cover";
+    }
+
+    @Override
+    public int[] solve(CompiledRules rules, int[] cells, BooleanSupplier stop) {
+        if (!rules.isValid(cells)) {
+            return null;
+        }
+        Matrix matrix = new Matrix(rules, cells, stop);
+        return matrix.search() ? matrix.solution : null;
+    }
+
+    /**
+     * Matriz de cobertura exacta con enlaces danzantes.
+     */
+    private static final class Matrix {
+
+        /** Enlaces izquierda, derecha, arriba y abajo de cada nodo */
+        private int[] left;
+        private int[] right;
+        private int[] up;
+        private int[] down;
+
+        /** Columna de cada nodo */
+        private int[] column;
+
+        /** Fila (celda * (tamaño + 1) + número) de cada nodo */
+        private int[] rowOf;
+
+        /** Número de nodos de cada columna */
+        private final int[] columnSize;
+
+        /** Número de nodos usados (el 0 es la cabecera raíz) */
+        private int nodeCount;
+
+        /** Tamaño del tablero */
+        private final int size;
+
+        /** Solución que se va construyendo */
+        private final int[] solution;
+
+        /** Condición de parada */
+        private final BooleanSupplier stop;
+
+        /** Nodos visitados */
+        private long visited;
+
+        /**
+         * Constructor que construye la matriz para un tablero.
+         *
+         * @param rules Reglas compiladas
+         * @param cells Valores iniciales del tablero
+         * @param stop Condición de parada
+         */
+        Matrix(CompiledRules rules, int[] cells, BooleanSupplier stop) {
+            this.size = rules.getSize();
+            this.solution = cells.clone();
+            this.stop = stop;
+
+            int cellCount = rules.getCellCount();
+            int[][] units = rules.getUnits();
+            int columns = cellCount + units.length * size;
+            columnSize = new int[columns + 1];
+
+            int capacity = columns + 1 + cellCount * size * 8;
+            left = new int[capacity];
+            right = new int[capacity];
+            up = new int[capacity];
+            down = new int[capacity];
+            column = new int[capacity];
+            rowOf = new int[capacity];
+
+            // Cabeceras: 0 es la raíz, las columnas van de 1 a 'columns'
+            for (int c = 0; c <= columns; c++) {
+                up[c] = c;
+                down[c] = c;
+                column[c] = c;
+                left[c] = c;
+                right[c] = c;
+            }
+            nodeCount = columns + 1;
+
+            // Solo las columnas primarias se enlazan a la raíz
+            int last = 0;
+            for (int c = 1; c <= columns; c++) {
+                boolean primary = c <= cellCount || units[(c - 1 - cellCount) / size].length == size;
+                if (primary) {
+                    right[last] = c;
+                    left[c] = last;
+                    last = c;
+                }
+            }
+            right[last] = 0;
+            left[0] = last;
+
+            // Unidades de cada celda, para saber qué columnas cubre cada fila
+            int[] unitCount = new int[cellCount];
+            for (int[] unit : units) {
+                for (int cell : unit) {
+                    unitCount[cell]++;
+                }
+            }
+            int[][] unitsOfCell = new int[cellCount][];
+            for (int cell = 0; cell < cellCount; cell++) {
+                unitsOfCell[cell] = new int[unitCount[cell]];
+                unitCount[cell] = 0;
+            }
+            for (int u = 0; u < units.length; u++) {
+                for (int cell : units[u]) {
+                    unitsOfCell[cell][unitCount[cell]++] = u;
+                }
+            }
+
+            int full = rules.fullMask();
+            for (int cell = 0; cell < cellCount; cell++) {
+                int candidates = cells[cell] != 0 ? 1 << cells[cell] : full & ~rules.usedMask(cells, cell);
+                while (candidates != 0) {
+                    int num = Integer.numberOfTrailingZeros(candidates);
+                    candidates &= candidates - 1;
+                    addRow(cell, num, unitsOfCell[cell], cellCount);
+                }
+            }
+        }
+
+        /**
+         * Agrega la fila del par (celda, número).
+         *
+         * @param cell Índice plano de la celda
+         * @param num Número
+         * @param cellUnits Unidades a las que pertenece la celda
+         * @param cellCount Número de celdas (primeras columnas)
+         */
+        private void addRow(int cell, int num, int[] cellUnits, int cellCount) {
+            int row = cell * (size + 1) + num;
+            int first = appendNode(cell + 1, row);
+            for (int u : cellUnits) {
+                int node = appendNode(cellCount + u * size + num, row);
+                left[node] = left[first];
+                right[node] = first;
+                right[left[first]] = node;
+                left[first] = node;
+            }
+        }
+
+        /**
+         * Agrega un nodo al final de una columna.
+         *
+         * @param col Columna del nodo
+         * @param row Fila del nodo
+         * @return Índice del nodo
+         */
+        private int appendNode(int col, int row) {
+            if (nodeCount == left.length) {
+                grow();
+            }
+            int node = nodeCount++;
+            column[node] = col;
+            rowOf[node] = row;
+            up[node] = up[col];
+            down[node] = col;
+            down[up[col]] = node;
+            up[col] = node;
+            left[node] = node;
+            right[node] = node;
+            columnSize[col]++;
+            return node;
+        }
+
+        /**
+         * Duplica la capacidad de los arreglos de enlaces.
+         */
+        private void grow() {
+            int capacity = left.length * 2;
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            up = Arrays.copyOf(up, capacity);
+            down = Arrays.copyOf(down, capacity);
+            column = Arrays.copyOf(column, capacity);
+            rowOf = Arrays.copyOf(rowOf, capacity);
+        }
+
+        /**
+         * Quita una columna y todas las filas que la cubren.
+         *
+         * @param col Columna a quitar
+         */
+        private void cover(int col) {
+            right[left[col]] = right[col];
+            left[right[col]] = left[col];
+            for (int i = down[col]; i != col; i = down[i]) {
+                for (int j = right[i]; j != i; j = right[j]) {
+                    down[up[j]] = down[j];
+                    up[down[j]] = up[j];
+                    columnSize[column[j]]--;
+                }
+            }
+        }
+
+        /**
+         * Restaura una columna quitada con {@link #cover(int)}.
+         *
+         * @param col Columna a restaurar
+         */
+        private void uncover(int col) {
+            for (int i = up[col]; i != col; i = up[i]) {
+                for (int j = left[i]; j != i; j = left[j]) {
+                    columnSize[column[j]]++;
+                    down[up[j]] = j;
+                    up[down[j]] = j;
+                }
+            }
+            right[left[col]] = col;
+            left[right[col]] = col;
+        }
+
+        /**
+         * Busca una cobertura exacta.
+         *
+         * @return true si se encontró solución
+         */
+        boolean search() {
+            if (right[0] == 0) {
+                return true;
+            }
+            if ((++visited % STOP_CHECK_INTERVAL) == 0 && stop.getAsBoolean()) {
+                return false;
+            }
+
+            // Columna con menos filas
+            int col = right[0];
+            for (int c = right[col]; c != 0; c = right[c]) {
+                if (columnSize[c] < columnSize[col]) {
+                    col = c;
+                }
+            }
+            if (columnSize[col] == 0) {
+                return false;
+            }
+
+            cover(col);
+            for (int r = down[col]; r != col; r = down[r]) {
+                for (int j = right[r]; j != r; j = right[j]) {
+                    cover(column[j]);
+                }
+                if (search()) {
+                    int row = rowOf[r];
+                    solution[row / (size + 1)] = row % (size + 1);
+                    return true;
+                }
+                for (int j = left[r]; j != r; j = left[j]) {
+                    uncover(column[j]);
+                }
+            }
+            uncover(col);
+            return false;
+        }
+    }
+}
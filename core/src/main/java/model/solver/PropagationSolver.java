@@ -0,0 +1,129 @@
+package model.solver;
+
+import model.rules.CompiledRules;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Estrategia que solo usa propagación: coloca los únicos candidatos de una
+ * celda (naked singles) y los números que solo caben en una celda de una
+ * unidad (hidden singles). No adivina, así que devuelve null si se queda sin
+ * deducciones antes de llenar el tablero. Es la más rápida en tableros fáciles.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class PropagationSolver implements SudokuSolver {
+
+    @Override
+    public String getName() {
+        return "propagation";
+    }
+
+    @Override
+    public int[] solve(CompiledRules rules, int[] cells, BooleanSupplier stop) {
+        int[] work = cells.clone();
+        if (!rules.isValid(work)) {
+            return null;
+        }
+        return propagate(rules, work, true, stop) == State.SOLVED ? work : null;
+    }
+
+    /** Estado del tablero después de propagar */
+    public enum State {
+        /** El tablero quedó lleno */
+        SOLVED,
+        /** No hay más deducciones pero quedan celdas vacías */
+        STUCK,
+        /** Alguna celda o unidad se quedó sin candidatos */
+        CONTRADICTION
+    }
+
+    /**
+     * Aplica naked singles, y si se pide también hidden singles, hasta que no haya cambios.
+     * Es la única implementación de los singles: la usan esta estrategia y el
+     * calificador de dificultad, que primero propaga sin singles ocultos.
+     *
+     * @param rules Reglas compiladas
+     * @param work Valores del tablero, se modifican en el lugar
+     * @param hidden true para usar también los hidden singles
+     * @param stop Condición de parada
+     * @return Estado final del tablero
+     */
+    public static State propagate(CompiledRules rules, int[] work, boolean hidden, BooleanSupplier stop) {
+        int size = rules.getSize();
+        int full = rules.fullMask();
+        boolean progress = true;
+
+        while (progress) {
+            if (stop.getAsBoolean()) {
+                return State.STUCK;
+            }
+            progress = false;
+            boolean empty = false;
+
+            // Naked singles: celdas con un solo candidato
+            for (int cell = 0; cell < work.length; cell++) {
+                if (work[cell] != 0) {
+                    continue;
+                }
+                int candidates = full & ~rules.usedMask(work, cell);
+                if (candidates == 0) {
+                    return State.CONTRADICTION;
+                }
+                if (Integer.bitCount(candidates) == 1) {
+                    work[cell] = Integer.numberOfTrailingZeros(candidates);
+                    progress = true;
+                } else {
+                    empty = true;
+                }
+            }
+            if (!empty && !progress) {
+                return State.SOLVED;
+            }
+            if (!hidden) {
+                continue;
+            }
+
+            // Hidden singles: números que solo caben en una celda de la unidad
+            for (int[] unit : rules.getUnits()) {
+                if (unit.length != size) {
+                    continue;
+                }
+                int placed = 0;
+                for (int cell : unit) {
+                    placed |= 1 << work[cell];
+                }
+                for (int num = 1; num <= size; num++) {
+                    if ((placed & (1 << num)) != 0) {
+                        continue;
+                    }
+                    int only = -1;
+                    int count = 0;
+                    for (int cell : unit) {
+                        if (work[cell] == 0 && (rules.usedMask(work, cell) & (1 << num)) == 0) {
+                            only = cell;
+                            count++;
+                        }
+                    }
+                    if (count == 0) {
+                        return State.CONTRADICTION;
+                    }
+                    if (count == 1) {
+                        work[only] = num;
+                        placed |= 1 << num;
+                        progress = true;
+                    }
+                }
+            }
+        }
+
+        for (int value : work) {
+            if (value == 0) {
+                return State.STUCK;
+            }
+        }
+        return State.SOLVED;
+    }
+}
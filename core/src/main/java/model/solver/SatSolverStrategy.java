@@ -0,0 +1,29 @@
+package model.solver;
+
+import model.rules.CompiledRules;
+import model.sat.SatSudokuSolver;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Estrategia que usa el resolvedor SAT (CDCL). Suele ganar en tableros grandes.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class SatSolverStrategy implements SudokuSolver {
+
+    /** Resolvedor SAT, sin estado entre llamadas */
+    private final SatSudokuSolver solver = new SatSudokuSolver();
+
+    @Override
+    public String getName() {
+        return "sat-cdcl";
+    }
+
+    @Override
+    public int[] solve(CompiledRules rules, int[] cells, BooleanSupplier stop) {
+        return solver.solve(rules, cells, stop);
+    }
+}
@@ -0,0 +1,27 @@
+package model.solver;
+
+/**
+ * Recibe cada paso de una búsqueda, para mostrarla o registrarla.
+ * Se llama desde el hilo que resuelve el tablero.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public interface SolverListener {
+
+    /**
+     * Se llama cuando la búsqueda coloca un número.
+     *
+     * @param cell Índice plano de la celda
+     * @param value Número colocado
+     */
+    void onPlace(int cell, int value);
+
+    /**
+     * Se llama cuando la búsqueda retrocede y vacía una celda.
+     *
+     * @param cell Índice plano de la celda
+     */
+    void onBacktrack(int cell);
+}
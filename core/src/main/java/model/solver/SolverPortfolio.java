@@ -0,0 +1,288 @@
+package model.solver;
+
+import model.rules.CompiledRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Resuelve tableros con varias estrategias a la vez.
+ * Si hay suficientes núcleos, lanza una carrera: cada estrategia corre en su
+ * propio hilo, se toma el primer resultado y se detienen las demás. Si hay
+ * menos núcleos que estrategias, las prueba una por una, empezando por la que
+ * menos tiempo por tablero resuelto ha usado en ese grupo (tamaño de tablero y
+ * densidad de pistas). Las dos formas alimentan las mismas estadísticas; de vez
+ * en cuando la prueba una por una empieza por la estrategia menos probada, con
+ * un límite de tiempo, para que el orden no se quede fijo en la primera que funcionó.
+ *
+ * Se puede llamar a {@link #solve} desde varios hilos a la vez: los hilos de las
+ * estrategias se crean según se necesitan, así una carrera nunca espera en
+ * cola a que terminen las estrategias de otra.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public class SolverPortfolio implements AutoCloseable {
+
+    /** Cada cuántos tableros de un grupo se prueba primero la estrategia menos probada */
+    private static final int EXPLORE_INTERVAL = 16;
+
+    /** Límite de tiempo de la estrategia en prueba, en veces el costo de la mejor conocida */
+    private static final int EXPLORE_BUDGET = 4;
+
+    /** Estrategias disponibles, en orden de preferencia cuando no hay estadísticas */
+    private final List<SudokuSolver> solvers;
+
+    /** Núcleos que se pueden usar */
+    private final int cores;
+
+    /** Hilos donde corren las estrategias */
+    private final ExecutorService executor;
+
+    /** Intentos, tableros resueltos y tiempo de cada estrategia */
+    private final SolverStatistics statistics = new SolverStatistics();
+
+    /**
+     * Resultado de resolver un tablero.
+     *
+     * @param solution Valores del tablero resuelto, o null si no se encontró solución
+     * @param strategy Nombre de la estrategia que lo resolvió, o null
+     * @param nanos Tiempo total en nanosegundos
+     * @param raced true si se hizo una carrera entre estrategias
+     */
+    public record Result(int[] solution, String strategy, long nanos, boolean raced) {
+
+        /**
+         * Indica si se encontró solución.
+         *
+         * @return true si el tablero se resolvió
+         */
+        public boolean isSolved() {
+            return solution != null;
+        }
+    }
+
+    /**
+     * Constructor que usa las estrategias por defecto y todos los núcleos disponibles.
+     */
+    public SolverPortfolio() {
+        this(defaultSolvers(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor que usa estrategias y núcleos dados.
+     *
+     * @param solvers Estrategias, en orden de preferencia
+     * @param cores Núcleos que se pueden usar
+     */
+    public SolverPortfolio(List<SudokuSolver> solvers, int cores) {
+        if (solvers.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos una estrategia");
+        }
+        this.solvers = List.copyOf(solvers);
+        this.cores = Math.max(1, cores);
+
+        // Sin límite fijo de hilos: con varias llamadas a la vez, una carrera no
+        // debe quedar en cola detrás de las estrategias perdedoras de otra
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "sudoku-solver-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Crea la lista de estrategias por defecto.
+     *
+     * @return Propagación, retroceso con MRV, cobertura exacta y SAT
+     */
+    public static List<SudokuSolver> defaultSolvers() {
+        return List.of(new PropagationSolver(), new BacktrackingSolver(), new ExactCoverSolver(), new SatSolverStrategy());
+    }
+
+    /**
+     * Resuelve un tablero.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía); no se modifica
+     * @return Resultado con la solución y la estrategia ganadora
+     */
+    public Result solve(CompiledRules rules, int[] cells) {
+        long start = System.nanoTime();
+        List<SudokuSolver> candidates = new ArrayList<>();
+        for (SudokuSolver solver : solvers) {
+            if (solver.supports(rules)) {
+                candidates.add(solver);
+            }
+        }
+
+        int clues = 0;
+        for (int value : cells) {
+            if (value != 0) {
+                clues++;
+            }
+        }
+        long bucket = SolverStatistics.bucket(rules.getSize(), clues, rules.getCellCount());
+
+        if (candidates.size() > 1 && cores >= candidates.size()) {
+            return race(rules, cells, candidates, bucket, start);
+        }
+        return sequential(rules, cells, candidates, bucket, start);
+    }
+
+    /**
+     * Corre todas las estrategias a la vez y se queda con la primera solución.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero
+     * @param candidates Estrategias que soportan las reglas
+     * @param bucket Grupo del tablero en las estadísticas
+     * @param start Instante de inicio en nanosegundos
+     * @return Resultado de la carrera
+     */
+    private Result race(CompiledRules rules, int[] cells, List<SudokuSolver> candidates, long bucket, long start) {
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger pending = new AtomicInteger(candidates.size());
+        CompletableFuture<Result> first = new CompletableFuture<>();
+        List<Future<?>> running = new ArrayList<>();
+
+        for (SudokuSolver solver : candidates) {
+            running.add(executor.submit(() -> {
+                try {
+                    int[] solution = solver.solve(rules, cells, done::get);
+                    if (solution != null && rules.isComplete(solution) && done.compareAndSet(false, true)) {
+                        first.complete(new Result(solution, solver.getName(), System.nanoTime() - start, true));
+                    }
+                } catch (RuntimeException e) {
+                    // Una estrategia que falla cuenta como si no hubiera encontrado solución
+                } finally {
+                    if (pending.decrementAndGet() == 0) {
+                        first.complete(new Result(null, null, System.nanoTime() - start, true));
+                    }
+                }
+            }));
+        }
+
+        Result result = first.join();
+
+        // Detener las demás estrategias y quitar de la cola las que no empezaron
+        done.set(true);
+        for (Future<?> future : running) {
+            future.cancel(false);
+        }
+        List<String> runners = new ArrayList<>(candidates.size());
+        for (SudokuSolver solver : candidates) {
+            runners.add(solver.getName());
+        }
+        statistics.recordRace(bucket, result.strategy(), result.nanos(), runners);
+        return result;
+    }
+
+    /**
+     * Prueba las estrategias una por una, de la más barata a la más cara según las
+     * estadísticas, y registra el tiempo de cada intento.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero
+     * @param candidates Estrategias que soportan las reglas
+     * @param bucket Grupo del tablero en las estadísticas
+     * @param start Instante de inicio en nanosegundos
+     * @return Resultado de la primera estrategia que resuelva el tablero
+     */
+    private Result sequential(CompiledRules rules, int[] cells, List<SudokuSolver> candidates, long bucket, long start) {
+        List<SudokuSolver> ordered = statistics.rank(bucket, candidates);
+        long board = statistics.getBoards(bucket);
+        statistics.recordBoard(bucket);
+
+        // De vez en cuando se prueba primero la estrategia menos probada, con un límite
+        // de tiempo, por si resuelve este grupo más rápido que la mejor conocida
+        double bestCost = statistics.getCostNanos(bucket, ordered.get(0).getName());
+        if (ordered.size() > 1 && board % EXPLORE_INTERVAL == EXPLORE_INTERVAL - 1 && bestCost < Double.POSITIVE_INFINITY) {
+            SudokuSolver explored = leastTried(bucket, ordered.subList(1, ordered.size()));
+            long deadline = System.nanoTime() + (long) Math.min(Long.MAX_VALUE / 2, bestCost * EXPLORE_BUDGET);
+            int[] solution = attempt(explored, rules, cells, bucket, deadline);
+            if (solution != null) {
+                return new Result(solution, explored.getName(), System.nanoTime() - start, false);
+            }
+            ordered.remove(explored);
+        }
+
+        for (SudokuSolver solver : ordered) {
+            int[] solution = attempt(solver, rules, cells, bucket, Long.MAX_VALUE);
+            if (solution != null) {
+                return new Result(solution, solver.getName(), System.nanoTime() - start, false);
+            }
+        }
+        return new Result(null, null, System.nanoTime() - start, false);
+    }
+
+    /**
+     * Corre una estrategia sola y registra su tiempo en las estadísticas.
+     *
+     * @param solver Estrategia
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero
+     * @param bucket Grupo del tablero en las estadísticas
+     * @param deadline Instante en nanosegundos en que se detiene, o {@link Long#MAX_VALUE} sin límite
+     * @return Solución, o null si no la encontró o se detuvo
+     */
+    private int[] attempt(SudokuSolver solver, CompiledRules rules, int[] cells, long bucket, long deadline) {
+        long begin = System.nanoTime();
+        BooleanSupplier stop = deadline == Long.MAX_VALUE
+                ? () -> Thread.currentThread().isInterrupted()
+                : () -> Thread.currentThread().isInterrupted() || System.nanoTime() - deadline > 0;
+        int[] solution;
+        try {
+            solution = solver.solve(rules, cells, stop);
+        } catch (RuntimeException e) {
+            // Una estrategia que falla cuenta como si no hubiera encontrado solución
+            solution = null;
+        }
+        boolean solved = solution != null && rules.isComplete(solution);
+        statistics.recordAttempt(bucket, solver.getName(), System.nanoTime() - begin, solved);
+        return solved ? solution : null;
+    }
+
+    /**
+     * Busca la estrategia con menos intentos en un grupo.
+     *
+     * @param bucket Grupo del tablero
+     * @param solvers Estrategias posibles
+     * @return La menos probada; con empate, la primera
+     */
+    private SudokuSolver leastTried(long bucket, List<SudokuSolver> solvers) {
+        SudokuSolver least = solvers.get(0);
+        for (SudokuSolver solver : solvers) {
+            if (statistics.getAttempts(bucket, solver.getName()) < statistics.getAttempts(bucket, least.getName())) {
+                least = solver;
+            }
+        }
+        return least;
+    }
+
+    /**
+     * Obtiene las estadísticas de las estrategias.
+     *
+     * @return Estadísticas de las carreras y de las pruebas una por una
+     */
+    public SolverStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Detiene los hilos de las estrategias.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,236 @@
+package model.solver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estadísticas de cada estrategia, agrupadas por tamaño de tablero y densidad
+ * de pistas (en décimas del total de celdas): intentos, tableros resueltos y
+ * tiempo usado. Se alimentan tanto de las carreras como de las pruebas una por
+ * una, y ordenan las estrategias por el tiempo promedio que les cuesta cada
+ * tablero resuelto; el tiempo de los intentos fallidos también cuenta.
+ * Es segura para usar desde varios hilos.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class SolverStatistics {
+
+    /** Marcador de cada estrategia por grupo y luego por estrategia */
+    private final Map<Long, Map<String, Score>> scores = new ConcurrentHashMap<>();
+
+    /** Tableros resueltos o intentados por grupo */
+    private final Map<Long, LongAdder> boards = new ConcurrentHashMap<>();
+
+    /**
+     * Calcula el grupo de un tablero.
+     *
+     * @param size Tamaño del tablero
+     * @param clues Número de celdas con número
+     * @param cellCount Número total de celdas
+     * @return Clave del grupo
+     */
+    static long bucket(int size, int clues, int cellCount) {
+        int density = clues * 10 / cellCount;
+        return ((long) size << 32) | density;
+    }
+
+    /**
+     * Registra el resultado de una carrera. Las perdedoras se detuvieron sin
+     * resolver después de usar al menos el tiempo de la ganadora, así que cuentan
+     * como un intento fallido de ese tiempo.
+     *
+     * @param bucket Grupo del tablero
+     * @param winner Nombre de la estrategia ganadora, o null si ninguna resolvió el tablero
+     * @param nanos Tiempo de la ganadora en nanosegundos
+     * @param runners Nombres de todas las estrategias de la carrera
+     */
+    void recordRace(long bucket, String winner, long nanos, List<String> runners) {
+        boards.computeIfAbsent(bucket, k -> new LongAdder()).increment();
+        if (winner == null) {
+            return;
+        }
+        for (String runner : runners) {
+            score(bucket, runner).add(nanos, runner.equals(winner));
+        }
+    }
+
+    /**
+     * Registra un intento de una estrategia probada sola.
+     *
+     * @param bucket Grupo del tablero
+     * @param strategy Nombre de la estrategia
+     * @param nanos Tiempo del intento en nanosegundos
+     * @param solved true si resolvió el tablero
+     */
+    void recordAttempt(long bucket, String strategy, long nanos, boolean solved) {
+        score(bucket, strategy).add(nanos, solved);
+    }
+
+    /**
+     * Cuenta un tablero más en un grupo, se haya resuelto o no.
+     *
+     * @param bucket Grupo del tablero
+     */
+    void recordBoard(long bucket) {
+        boards.computeIfAbsent(bucket, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Obtiene el número de tableros registrados en un grupo.
+     *
+     * @param bucket Grupo del tablero
+     * @return Número de tableros
+     */
+    long getBoards(long bucket) {
+        LongAdder count = boards.get(bucket);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Obtiene los tableros que resolvió una estrategia en un grupo.
+     *
+     * @param bucket Grupo del tablero
+     * @param strategy Nombre de la estrategia
+     * @return Número de tableros resueltos
+     */
+    long getWins(long bucket, String strategy) {
+        Score score = find(bucket, strategy);
+        return score == null ? 0 : score.solved.sum();
+    }
+
+    /**
+     * Obtiene los intentos de una estrategia en un grupo.
+     *
+     * @param bucket Grupo del tablero
+     * @param strategy Nombre de la estrategia
+     * @return Número de intentos
+     */
+    long getAttempts(long bucket, String strategy) {
+        Score score = find(bucket, strategy);
+        return score == null ? 0 : score.attempts.sum();
+    }
+
+    /**
+     * Obtiene el tiempo promedio que le cuesta a una estrategia cada tablero resuelto en un grupo.
+     *
+     * @param bucket Grupo del tablero
+     * @param strategy Nombre de la estrategia
+     * @return Nanosegundos por tablero resuelto, o infinito si nunca resolvió uno
+     */
+    double getCostNanos(long bucket, String strategy) {
+        Score score = find(bucket, strategy);
+        return score == null ? Double.POSITIVE_INFINITY : score.cost();
+    }
+
+    /**
+     * Ordena las estrategias de la más barata a la más cara en un grupo.
+     * Las que nunca resolvieron un tablero del grupo van al final; con empate
+     * (por ejemplo, sin estadísticas) se conserva el orden original.
+     *
+     * @param bucket Grupo del tablero
+     * @param solvers Estrategias a ordenar
+     * @return Nueva lista ordenada
+     */
+    List<SudokuSolver> rank(long bucket, List<SudokuSolver> solvers) {
+        List<SudokuSolver> ranked = new ArrayList<>(solvers);
+        if (!scores.containsKey(bucket)) {
+            return ranked;
+        }
+        ranked.sort(Comparator.comparingDouble((SudokuSolver s) -> getCostNanos(bucket, s.getName())));
+        return ranked;
+    }
+
+    /**
+     * Obtiene un resumen legible de las estadísticas.
+     *
+     * @return Texto con los tableros resueltos y el costo promedio por grupo
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<Long, LongAdder> entry : boards.entrySet()) {
+            long bucket = entry.getKey();
+            text.append("size=").append(bucket >>> 32)
+                    .append(" density=").append((bucket & 0xFFFFFFFFL) * 10).append('%')
+                    .append(" boards=").append(entry.getValue().sum());
+            Map<String, Score> byStrategy = scores.get(bucket);
+            if (byStrategy != null) {
+                byStrategy.forEach((name, score) -> text.append(' ').append(name).append('=')
+                        .append(score.solved.sum()).append('/').append(score.attempts.sum())
+                        .append(String.format(Locale.ROOT, " (%.1f us)", score.cost() / 1000)));
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Obtiene el marcador de una estrategia en un grupo, creándolo si no existe.
+     *
+     * @param bucket Grupo del tablero
+     * @param strategy Nombre de la estrategia
+     * @return Marcador
+     */
+    private Score score(long bucket, String strategy) {
+        return scores.computeIfAbsent(bucket, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(strategy, k -> new Score());
+    }
+
+    /**
+     * Busca el marcador de una estrategia en un grupo.
+     *
+     * @param bucket Grupo del tablero
+     * @param strategy Nombre de la estrategia
+     * @return Marcador, o null si la estrategia no tiene intentos en el grupo
+     */
+    private Score find(long bucket, String strategy) {
+        Map<String, Score> byStrategy = scores.get(bucket);
+        return byStrategy == null ? null : byStrategy.get(strategy);
+    }
+
+    /**
+     * Intentos, tableros resueltos y tiempo de una estrategia en un grupo.
+     */
+    private static final class Score {
+
+        /** Intentos, resueltos o no */
+        private final LongAdder attempts = new LongAdder();
+
+        /** Tableros resueltos */
+        private final LongAdder solved = new LongAdder();
+
+        /** Tiempo total de los intentos, en nanosegundos */
+        private final LongAdder nanos = new LongAdder();
+
+        /**
+         * Suma un intento.
+         *
+         * @param time Tiempo del intento en nanosegundos
+         * @param success true si resolvió el tablero
+         */
+        void add(long time, boolean success) {
+            attempts.increment();
+            nanos.add(time);
+            if (success) {
+                solved.increment();
+            }
+        }
+
+        /**
+         * Calcula el tiempo por tablero resuelto.
+         *
+         * @return Nanosegundos por tablero resuelto, o infinito si no resolvió ninguno
+         */
+        double cost() {
+            long count = solved.sum();
+            return count == 0 ? Double.POSITIVE_INFINITY : (double) nanos.sum() / count;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package model.solver;
+
+import model.rules.CompiledRules;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Estrategia para resolver un tablero de Sudoku.
+ * Las implementaciones no guardan estado entre llamadas y se pueden usar
+ * desde varios hilos a la vez.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public interface SudokuSolver {
+
+    /**
+     * Obtiene el nombre de la estrategia, usado en las estadísticas.
+     *
+     * @return Nombre de la estrategia
+     */
+    String getName();
+
+    /**
+     * Indica si la estrategia puede resolver tableros con estas reglas.
+     *
+     * @param rules Reglas compiladas
+     * @return true si la estrategia soporta las reglas
+     */
+    default boolean supports(CompiledRules rules) {
+        return !rules.hasCages();
+    }
+
+    /**
+     * Resuelve un tablero.
+     *
+     * @param rules Reglas compiladas del tablero
+     * @param cells Valores del tablero en orden plano (0 = vacía); no se modifica
+     * @param stop Condición de parada; la estrategia devuelve null en cuanto sea true
+     * @return Valores del tablero resuelto, o null si no se encontró solución
+     */
+    int[] solve(CompiledRules rules, int[] cells, BooleanSupplier stop);
+}
@@ -0,0 +1,91 @@
+package model.stats;
+
+/**
+ * Acumulado de un grupo de juegos. Se actualiza en tiempo constante con cada
+ * juego, así los resúmenes no necesitan volver a leer el historial.
+ * Los juegos llegan en el orden en que se terminaron.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+final class Aggregate {
+
+    /** Juegos terminados */
+    private long games;
+
+    /** Suma de las duraciones en milisegundos */
+    private long totalMillis;
+
+    /** Mejor duración en milisegundos */
+    private long bestMillis = Long.MAX_VALUE;
+
+    /** Suma de las ayudas */
+    private long totalHints;
+
+    /** Suma de los errores */
+    private long totalMistakes;
+
+    /** Último día (días desde 1970) con un juego terminado */
+    private long lastDay = Long.MIN_VALUE;
+
+    /** Racha actual de días seguidos */
+    private int streakDays;
+
+    /** Mayor racha de días seguidos */
+    private int bestStreakDays;
+
+    /** Racha actual de juegos sin ayudas ni errores */
+    private int cleanStreak;
+
+    /** Mayor racha de juegos sin ayudas ni errores */
+    private int bestCleanStreak;
+
+    /**
+     * Agrega un juego terminado.
+     *
+     * @param durationMillis Duración en milisegundos
+     * @param hints Ayudas usadas
+     * @param mistakes Errores cometidos
+     * @param day Día en que se terminó (días desde 1970, en la zona local)
+     */
+    void add(long durationMillis, int hints, int mistakes, long day) {
+        games++;
+        totalMillis += durationMillis;
+        bestMillis = Math.min(bestMillis, durationMillis);
+        totalHints += hints;
+        totalMistakes += mistakes;
+
+        if (day == lastDay + 1) {
+            streakDays++;
+        } else if (day > lastDay) {
+            streakDays = 1;
+        }
+        lastDay = Math.max(lastDay, day);
+        bestStreakDays = Math.max(bestStreakDays, streakDays);
+
+        if (hints == 0 && mistakes == 0) {
+            cleanStreak++;
+            bestCleanStreak = Math.max(bestCleanStreak, cleanStreak);
+        } else {
+            cleanStreak = 0;
+        }
+    }
+
+    /**
+     * Crea el resumen del grupo.
+     *
+     * @param today Día actual (días desde 1970, en la zona local)
+     * @return Resumen inmutable
+     */
+    GameStatistics toStatistics(long today) {
+        if (games == 0) {
+            return GameStatistics.EMPTY;
+        }
+        // La racha de días sigue viva si el último juego fue hoy o ayer
+        int current = lastDay >= today - 1 ? streakDays : 0;
+        return new GameStatistics(games, bestMillis, (double) totalMillis / games,
+                (double) totalHints / games, (double) totalMistakes / games,
+                current, bestStreakDays, cleanStreak, bestCleanStreak);
+    }
+}
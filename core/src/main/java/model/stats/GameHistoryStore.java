@@ -0,0 +1,830 @@
+package model.stats;
+
+import model.generator.Difficulty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Historial local de juegos terminados, con resúmenes por jugador y por dificultad.
+ *
+ * Los juegos se guardan en segmentos por columnas que solo crecen: cada segmento
+ * tiene primero todos los jugadores, luego todas las huellas, luego todos los
+ * instantes, y así cada campo; al abrir el historial se leen solo las columnas
+ * que alimentan los resúmenes, de forma secuencial y sin crear objetos por juego.
+ * Los juegos del segmento que todavía no está lleno se agregan a un registro por
+ * filas; cuando llega a {@link #SEGMENT_ROWS} juegos se escribe el segmento y se
+ * borra el registro. Los nombres de los jugadores se guardan una sola vez y cada
+ * juego solo guarda su número.
+ *
+ * Los resúmenes se mantienen en memoria y se actualizan con cada juego, así
+ * consultarlos no depende del tamaño del historial.
+ *
+ * Solo un proceso a la vez puede tener abierto un historial: el constructor toma
+ * un candado sobre {@code history.lock} y falla si otra instancia ya lo tiene,
+ * porque dos procesos agregando al mismo registro mezclarían sus filas y darían
+ * el mismo número a jugadores distintos.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public final class GameHistoryStore implements AutoCloseable {
+
+    /** Juegos por segmento */
+    public static final int SEGMENT_ROWS = 65_536;
+
+    /** Identificador de los archivos de segmento ("SUH1") */
+    private static final int SEGMENT_MAGIC = 0x53554831;
+
+    /** Bytes de la cabecera del segmento: identificador, versión y número de filas */
+    private static final int HEADER_BYTES = 12;
+
+    /** Bytes del número de jugador; las columnas van en el orden de estas constantes */
+    private static final int PLAYER_BYTES = 4;
+
+    /** Bytes de la huella del tablero */
+    private static final int KEY_BYTES = 8;
+
+    /** Bytes del instante en que se terminó el juego */
+    private static final int FINISHED_BYTES = 8;
+
+    /** Bytes de la duración en milisegundos */
+    private static final int DURATION_BYTES = 4;
+
+    /** Bytes del tamaño del tablero */
+    private static final int SIZE_BYTES = 1;
+
+    /** Bytes del código de dificultad */
+    private static final int DIFFICULTY_BYTES = 1;
+
+    /** Bytes de las ayudas usadas */
+    private static final int HINTS_BYTES = 2;
+
+    /** Bytes de los errores cometidos */
+    private static final int MISTAKES_BYTES = 2;
+
+    /** Bytes de una fila completa (también el tamaño de cada fila del registro) */
+    private static final int ROW_BYTES = PLAYER_BYTES + KEY_BYTES + FINISHED_BYTES + DURATION_BYTES
+            + SIZE_BYTES + DIFFICULTY_BYTES + HINTS_BYTES + MISTAKES_BYTES;
+
+    /** Códigos de dificultad: 0 = sin banda, luego cada banda en orden */
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    /** Directorio del historial */
+    private final Path directory;
+
+    /** Zona horaria para contar las rachas de días */
+    private final ZoneId zone;
+
+    /** Nombres de los jugadores por número */
+    private final List<String> playerNames = new ArrayList<>();
+
+    /** Número de cada jugador por nombre */
+    private final Map<String, Integer> playerIds = new HashMap<>();
+
+    /** Resumen de cada jugador, por número de jugador */
+    private final List<Aggregate> byPlayer = new ArrayList<>();
+
+    /** Resumen de cada jugador en cada dificultad, por número de jugador y código de dificultad */
+    private final List<Aggregate[]> byPlayerDifficulty = new ArrayList<>();
+
+    /** Resumen de cada dificultad, por código */
+    private final Aggregate[] byDifficulty = new Aggregate[DIFFICULTIES.length + 1];
+
+    /** Resumen de todos los juegos */
+    private final Aggregate overall = new Aggregate();
+
+    /** Segmentos escritos, en orden */
+    private final List<Path> segments = new ArrayList<>();
+
+    /** Juegos del segmento en curso */
+    private final Columns active = new Columns();
+
+    /** Número del segmento en curso */
+    private int segmentNumber;
+
+    /** Registro por filas del segmento en curso */
+    private FileChannel log;
+
+    /** Juegos en los segmentos escritos */
+    private long sealedRows;
+
+    /** Archivo del candado entre procesos, abierto mientras el historial está abierto */
+    private FileChannel lockChannel;
+
+    /** Candado que impide que otro proceso abra el mismo historial */
+    private FileLock lock;
+
+    /**
+     * Abre el historial en la carpeta del usuario ({@code ~/.sudoku/history}).
+     *
+     * @return Historial abierto
+     */
+    public static GameHistoryStore openDefault() {
+        return new GameHistoryStore(Path.of(System.getProperty("user.home"), ".sudoku", "history"), ZoneId.systemDefault());
+    }
+
+    /**
+     * Constructor que abre un historial, o lo crea si no existe.
+     * Lee los segmentos y el registro para reconstruir los resúmenes.
+     *
+     * @param directory Directorio del historial
+     * @param zone Zona horaria para contar las rachas de días
+     * @throws UncheckedIOException Si el historial no se puede leer o ya lo tiene abierto otra instancia
+     */
+    public GameHistoryStore(Path directory, ZoneId zone) {
+        this.directory = directory;
+        this.zone = zone;
+        for (int i = 0; i < byDifficulty.length; i++) {
+            byDifficulty[i] = new Aggregate();
+        }
+        try {
+            Files.createDirectories(directory);
+            lock();
+            loadPlayers();
+            loadSegments();
+            loadLog();
+        } catch (IOException e) {
+            releaseLock(e);
+            throw new UncheckedIOException("No se pudo abrir el historial de juegos", e);
+        }
+    }
+
+    /**
+     * Guarda un juego terminado y actualiza los resúmenes.
+     *
+     * @param record Juego terminado
+     */
+    public synchronized void record(GameRecord record) {
+        try {
+            int player = playerId(record.player());
+            int difficulty = difficultyCode(record.difficulty());
+            int duration = (int) Math.min(Integer.MAX_VALUE, Math.max(0, record.durationMillis()));
+            int hints = Math.min(Short.MAX_VALUE, record.hintsUsed());
+            int mistakes = Math.min(Short.MAX_VALUE, record.mistakes());
+
+            ByteBuffer row = ByteBuffer.allocate(ROW_BYTES);
+            row.putInt(player).putLong(record.puzzleKey()).putLong(record.finishedAt()).putInt(duration)
+                    .put((byte) record.size()).put((byte) difficulty).putShort((short) hints).putShort((short) mistakes);
+            row.flip();
+            try {
+                while (row.hasRemaining()) {
+                    log.write(row);
+                }
+                log.force(false);
+            } catch (IOException e) {
+                // Sin esto, las filas siguientes de la sesión quedarían corridas por la fila a medias
+                try {
+                    log.truncate((long) active.rows * ROW_BYTES);
+                } catch (IOException truncateFailure) {
+                    e.addSuppressed(truncateFailure);
+                }
+                throw e;
+            }
+
+            active.add(player, record.puzzleKey(), record.finishedAt(), duration, record.size(), difficulty, hints, mistakes);
+            index(player, difficulty, duration, hints, mistakes, record.finishedAt());
+
+            if (active.rows >= SEGMENT_ROWS) {
+                seal();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el juego en el historial", e);
+        }
+    }
+
+    /**
+     * Obtiene el resumen de un jugador en todas las dificultades.
+     *
+     * @param player Nombre del jugador
+     * @return Resumen del jugador
+     */
+    public synchronized GameStatistics playerStatistics(String player) {
+        Integer id = playerIds.get(player);
+        return id == null ? GameStatistics.EMPTY : byPlayer.get(id).toStatistics(today());
+    }
+
+    /**
+     * Obtiene el resumen de un jugador en una dificultad.
+     *
+     * @param player Nombre del jugador
+     * @param difficulty Banda de dificultad, o null para los juegos sin banda
+     * @return Resumen del jugador en esa dificultad
+     */
+    public synchronized GameStatistics playerStatistics(String player, Difficulty difficulty) {
+        Integer id = playerIds.get(player);
+        return id == null ? GameStatistics.EMPTY
+                : byPlayerDifficulty.get(id)[difficultyCode(difficulty)].toStatistics(today());
+    }
+
+    /**
+     * Obtiene el resumen de todos los jugadores en una dificultad.
+     *
+     * @param difficulty Banda de dificultad, o null para los juegos sin banda
+     * @return Resumen de la dificultad
+     */
+    public synchronized GameStatistics difficultyStatistics(Difficulty difficulty) {
+        return byDifficulty[difficultyCode(difficulty)].toStatistics(today());
+    }
+
+    /**
+     * Obtiene el resumen de todos los juegos.
+     *
+     * @return Resumen del historial
+     */
+    public synchronized GameStatistics overallStatistics() {
+        return overall.toStatistics(today());
+    }
+
+    /**
+     * Obtiene los nombres de los jugadores del historial.
+     *
+     * @return Nombres en el orden en que aparecieron
+     */
+    public synchronized List<String> getPlayers() {
+        return List.copyOf(playerNames);
+    }
+
+    /**
+     * Obtiene el número de juegos guardados.
+     *
+     * @return Juegos en el historial
+     */
+    public synchronized long getRecordCount() {
+        return sealedRows + active.rows;
+    }
+
+    /**
+     * Recorre todos los juegos en el orden en que se guardaron.
+     * Lee el historial completo; para los resúmenes es mejor usar los métodos de estadísticas.
+     *
+     * @param consumer Receptor de cada juego
+     */
+    public synchronized void forEach(Consumer<GameRecord> consumer) {
+        try {
+            for (Path segment : segments) {
+                try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    int rows = checkHeader(buffer, segment);
+                    for (int row = 0; row < rows; row++) {
+                        consumer.accept(readRow(buffer, rows, row));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el historial de juegos", e);
+        }
+        for (int row = 0; row < active.rows; row++) {
+            consumer.accept(active.toRecord(row));
+        }
+    }
+
+    /**
+     * Cierra el registro del segmento en curso y libera el candado del historial.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            log.close();
+        } catch (IOException e) {
+            releaseLock(e);
+            throw new UncheckedIOException("No se pudo cerrar el historial de juegos", e);
+        }
+        IOException failure = new IOException("No se pudo liberar el candado del historial");
+        releaseLock(failure);
+        if (failure.getSuppressed().length > 0) {
+            throw new UncheckedIOException(failure.getMessage(), failure);
+        }
+    }
+
+    /**
+     * Toma el candado del historial para este proceso.
+     *
+     * @throws IOException Si otra instancia ya tiene el historial abierto o el candado no se puede crear
+     */
+    private void lock() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve("history.lock"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Este mismo proceso ya lo tiene abierto
+            lock = null;
+        }
+        if (lock == null) {
+            throw new IOException("El historial ya está abierto en otra instancia: " + directory);
+        }
+    }
+
+    /**
+     * Libera el candado del historial si se tomó. Los errores se agregan a otro ya en curso.
+     *
+     * @param failure Error al que se agregan los errores de liberar el candado
+     */
+    private void releaseLock(IOException failure) {
+        if (lockChannel == null) {
+            return;
+        }
+        try {
+            // Cerrar el canal también libera el candado
+            lockChannel.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+        lockChannel = null;
+        lock = null;
+    }
+
+    /**
+     * Agrega un juego a los resúmenes.
+     *
+     * @param player Número del jugador
+     * @param difficulty Código de la dificultad
+     * @param duration Duración en milisegundos
+     * @param hints Ayudas usadas
+     * @param mistakes Errores cometidos
+     * @param finishedAt Instante en que se terminó, en milisegundos desde 1970
+     */
+    private void index(int player, int difficulty, int duration, int hints, int mistakes, long finishedAt) {
+        long day = LocalDate.ofInstant(Instant.ofEpochMilli(finishedAt), zone).toEpochDay();
+        overall.add(duration, hints, mistakes, day);
+        byDifficulty[difficulty].add(duration, hints, mistakes, day);
+        byPlayer.get(player).add(duration, hints, mistakes, day);
+        byPlayerDifficulty.get(player)[difficulty].add(duration, hints, mistakes, day);
+    }
+
+    /**
+     * Escribe el segmento en curso y empieza uno nuevo.
+     *
+     * @throws IOException Si el segmento no se puede escribir
+     */
+    private void seal() throws IOException {
+        int rows = active.rows;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + rows * ROW_BYTES);
+        buffer.putInt(SEGMENT_MAGIC).putInt(1).putInt(rows);
+        active.writeColumns(buffer);
+        buffer.flip();
+
+        Path segment = segmentFile(segmentNumber);
+        Path temp = directory.resolve(segment.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        segments.add(segment);
+        sealedRows += rows;
+
+        // El registro ya está en el segmento; si se cae aquí, al abrir se descarta por tener segmento
+        log.close();
+        Files.deleteIfExists(logFile(segmentNumber));
+        segmentNumber++;
+        active.clear();
+        log = openLog();
+    }
+
+    /**
+     * Lee los nombres de los jugadores. Un nombre sin salto de línea final quedó de una
+     * escritura interrumpida; ningún juego lo usa, porque la fila se escribe después
+     * de guardar el nombre, así que se descarta.
+     *
+     * @throws IOException Si el archivo no se puede leer
+     */
+    private void loadPlayers() throws IOException {
+        Path file = playersFile();
+        if (!Files.exists(file)) {
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int end = bytes.length;
+        while (end > 0 && bytes[end - 1] != '\n') {
+            end--;
+        }
+        if (end < bytes.length) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+        String text = new String(bytes, 0, end, StandardCharsets.UTF_8);
+        for (String name : text.lines().toList()) {
+            addPlayer(name);
+        }
+    }
+
+    /**
+     * Lee las columnas de los resúmenes de cada segmento.
+     *
+     * @throws IOException Si algún segmento no se puede leer
+     */
+    private void loadSegments() throws IOException {
+        TreeMap<Integer, Path> found = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "segment-*.col")) {
+            for (Path file : files) {
+                found.put(numberOf(file), file);
+            }
+        }
+
+        for (Map.Entry<Integer, Path> entry : found.entrySet()) {
+            Path segment = entry.getValue();
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int rows = checkHeader(buffer, segment);
+
+                // Una pasada secuencial por cada columna necesaria
+                int players = HEADER_BYTES;
+                int finished = players + rows * (PLAYER_BYTES + KEY_BYTES);
+                int durations = finished + rows * FINISHED_BYTES;
+                int difficulties = durations + rows * (DURATION_BYTES + SIZE_BYTES);
+                int hints = difficulties + rows * DIFFICULTY_BYTES;
+                int mistakes = hints + rows * HINTS_BYTES;
+                for (int row = 0; row < rows; row++) {
+                    int player = buffer.getInt(players + row * PLAYER_BYTES);
+                    int difficulty = buffer.get(difficulties + row);
+                    checkRow(player, difficulty, segment);
+                    index(player, difficulty,
+                            buffer.getInt(durations + row * DURATION_BYTES),
+                            buffer.getShort(hints + row * HINTS_BYTES),
+                            buffer.getShort(mistakes + row * MISTAKES_BYTES),
+                            buffer.getLong(finished + row * FINISHED_BYTES));
+                }
+                sealedRows += rows;
+            }
+            segments.add(segment);
+            segmentNumber = entry.getKey() + 1;
+        }
+    }
+
+    /**
+     * Lee el registro del segmento en curso y descarta los de segmentos ya escritos.
+     *
+     * @throws IOException Si el registro no se puede leer
+     */
+    private void loadLog() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "active-*.log")) {
+            for (Path file : files) {
+                if (numberOf(file) < segmentNumber) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        Path file = logFile(segmentNumber);
+        if (Files.exists(file)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            int rows = buffer.remaining() / ROW_BYTES;
+            for (int row = 0; row < rows; row++) {
+                int player = buffer.getInt();
+                long key = buffer.getLong();
+                long finishedAt = buffer.getLong();
+                int duration = buffer.getInt();
+                int size = buffer.get();
+                int difficulty = buffer.get();
+                int hints = buffer.getShort();
+                int mistakes = buffer.getShort();
+                checkRow(player, difficulty, file);
+                active.add(player, key, finishedAt, duration, size, difficulty, hints, mistakes);
+                index(player, difficulty, duration, hints, mistakes, finishedAt);
+            }
+            log = openLog();
+            // Una fila a medias quedó de una escritura interrumpida
+            log.truncate((long) rows * ROW_BYTES);
+        } else {
+            log = openLog();
+        }
+    }
+
+    /**
+     * Verifica que una fila leída del disco apunte a un jugador y una dificultad conocidos.
+     *
+     * @param player Número del jugador
+     * @param difficulty Código de la dificultad
+     * @param file Archivo de donde se leyó la fila
+     * @throws IOException Si la fila no corresponde a ningún jugador o dificultad
+     */
+    private void checkRow(int player, int difficulty, Path file) throws IOException {
+        if (player < 0 || player >= playerNames.size()) {
+            throw new IOException("Jugador desconocido (" + player + ") en el historial: " + file);
+        }
+        if (difficulty < 0 || difficulty > DIFFICULTIES.length) {
+            throw new IOException("Dificultad desconocida (" + difficulty + ") en el historial: " + file);
+        }
+    }
+
+    /**
+     * Abre el registro del segmento en curso para agregar filas.
+     *
+     * @return Registro abierto
+     * @throws IOException Si el registro no se puede abrir
+     */
+    private FileChannel openLog() throws IOException {
+        return FileChannel.open(logFile(segmentNumber), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Obtiene el número de un jugador y lo registra si es nuevo.
+     * El nombre se fuerza al disco antes de que se escriba cualquier fila que lo use,
+     * así después de un corte de energía el registro nunca apunta a un jugador perdido.
+     *
+     * @param name Nombre del jugador
+     * @return Número del jugador
+     * @throws IOException Si el nombre no se puede guardar
+     */
+    private int playerId(String name) throws IOException {
+        String clean = name.replace('\n', ' ').replace('\r', ' ');
+        Integer id = playerIds.get(clean);
+        if (id != null) {
+            return id;
+        }
+        ByteBuffer line = ByteBuffer.wrap((clean + "\n").getBytes(StandardCharsets.UTF_8));
+        try (FileChannel out = FileChannel.open(playersFile(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (line.hasRemaining()) {
+                out.write(line);
+            }
+            out.force(false);
+        }
+        return addPlayer(clean);
+    }
+
+    /**
+     * Agrega un jugador a la memoria con resúmenes vacíos.
+     *
+     * @param name Nombre del jugador
+     * @return Número asignado
+     */
+    private int addPlayer(String name) {
+        int id = playerNames.size();
+        playerNames.add(name);
+        playerIds.put(name, id);
+        byPlayer.add(new Aggregate());
+        Aggregate[] perDifficulty = new Aggregate[DIFFICULTIES.length + 1];
+        for (int i = 0; i < perDifficulty.length; i++) {
+            perDifficulty[i] = new Aggregate();
+        }
+        byPlayerDifficulty.add(perDifficulty);
+        return id;
+    }
+
+    /**
+     * Lee una fila completa de un segmento.
+     *
+     * @param buffer Segmento
+     * @param rows Filas del segmento
+     * @param row Fila a leer
+     * @return Juego de esa fila
+     */
+    private GameRecord readRow(ByteBuffer buffer, int rows, int row) {
+        int offset = HEADER_BYTES;
+        int player = buffer.getInt(offset + row * PLAYER_BYTES);
+        offset += rows * PLAYER_BYTES;
+        long key = buffer.getLong(offset + row * KEY_BYTES);
+        offset += rows * KEY_BYTES;
+        long finishedAt = buffer.getLong(offset + row * FINISHED_BYTES);
+        offset += rows * FINISHED_BYTES;
+        int duration = buffer.getInt(offset + row * DURATION_BYTES);
+        offset += rows * DURATION_BYTES;
+        int size = buffer.get(offset + row);
+        offset += rows * SIZE_BYTES;
+        int difficulty = buffer.get(offset + row);
+        offset += rows * DIFFICULTY_BYTES;
+        int hints = buffer.getShort(offset + row * HINTS_BYTES);
+        offset += rows * HINTS_BYTES;
+        int mistakes = buffer.getShort(offset + row * MISTAKES_BYTES);
+        return new GameRecord(playerNames.get(player), key, size, difficultyOf(difficulty),
+                duration, hints, mistakes, finishedAt);
+    }
+
+    /**
+     * Verifica la cabecera de un segmento y que su tamaño corresponda a sus filas.
+     *
+     * @param buffer Segmento completo
+     * @param segment Archivo del segmento, para el mensaje de error
+     * @return Número de filas del segmento
+     * @throws IOException Si el segmento no es válido o está incompleto
+     */
+    private static int checkHeader(ByteBuffer buffer, Path segment) throws IOException {
+        if (buffer.getInt(0) != SEGMENT_MAGIC || buffer.getInt(4) != 1) {
+            throw new IOException("Segmento de historial inválido: " + segment);
+        }
+        int rows = buffer.getInt(8);
+        if (buffer.capacity() != HEADER_BYTES + (long) rows * ROW_BYTES) {
+            throw new IOException("Segmento de historial incompleto: " + segment);
+        }
+        return rows;
+    }
+
+    /**
+     * Obtiene el día de hoy en la zona del historial, para las rachas.
+     *
+     * @return Día desde 1970
+     */
+    private long today() {
+        return LocalDate.now(zone).toEpochDay();
+    }
+
+    /**
+     * Obtiene el archivo con los nombres de los jugadores.
+     *
+     * @return Archivo de jugadores
+     */
+    private Path playersFile() {
+        return directory.resolve("players.txt");
+    }
+
+    /**
+     * Obtiene el archivo de un segmento.
+     *
+     * @param number Número del segmento
+     * @return Archivo del segmento
+     */
+    private Path segmentFile(int number) {
+        return directory.resolve(String.format(Locale.ROOT, "segment-%06d.col", number));
+    }
+
+    /**
+     * Obtiene el archivo del registro por filas de un segmento.
+     *
+     * @param number Número del segmento
+     * @return Archivo del registro
+     */
+    private Path logFile(int number) {
+        return directory.resolve(String.format(Locale.ROOT, "active-%06d.log", number));
+    }
+
+    /**
+     * Obtiene el número de un archivo de segmento o de registro.
+     *
+     * @param file Archivo con nombre {@code prefijo-NNNNNN.ext}
+     * @return Número del archivo
+     * @throws IOException Si el nombre no tiene un número válido
+     */
+    private static int numberOf(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(name.indexOf('-') + 1, name.lastIndexOf('.')));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IOException("Archivo de historial con nombre inválido: " + file, e);
+        }
+    }
+
+    /**
+     * Convierte una banda de dificultad en el código que se guarda.
+     *
+     * @param difficulty Banda de dificultad, o null si el juego no tenía banda
+     * @return Código de la dificultad
+     */
+    private static int difficultyCode(Difficulty difficulty) {
+        return difficulty == null ? 0 : difficulty.ordinal() + 1;
+    }
+
+    /**
+     * Convierte un código guardado en la banda de dificultad.
+     *
+     * @param code Código de la dificultad
+     * @return Banda de dificultad, o null si el juego no tenía banda
+     */
+    private static Difficulty difficultyOf(int code) {
+        return code == 0 ? null : DIFFICULTIES[code - 1];
+    }
+
+    /**
+     * Columnas de los juegos del segmento en curso.
+     */
+    private final class Columns {
+
+        /** Juegos guardados en las columnas */
+        private int rows;
+
+        /** Número de jugador de cada juego */
+        private int[] players = new int[1024];
+
+        /** Huella del tablero de cada juego */
+        private long[] keys = new long[1024];
+
+        /** Instante en que se terminó cada juego */
+        private long[] finished = new long[1024];
+
+        /** Duración de cada juego en milisegundos */
+        private int[] durations = new int[1024];
+
+        /** Tamaño del tablero de cada juego */
+        private byte[] sizes = new byte[1024];
+
+        /** Código de dificultad de cada juego */
+        private byte[] difficulties = new byte[1024];
+
+        /** Ayudas usadas en cada juego */
+        private short[] hints = new short[1024];
+
+        /** Errores cometidos en cada juego */
+        private short[] mistakes = new short[1024];
+
+        /**
+         * Agrega un juego al final de las columnas, duplicando la capacidad si hace falta.
+         *
+         * @param player Número del jugador
+         * @param key Huella del tablero
+         * @param finishedAt Instante en que se terminó, en milisegundos desde 1970
+         * @param duration Duración en milisegundos
+         * @param size Tamaño del tablero
+         * @param difficulty Código de la dificultad
+         * @param hint Ayudas usadas
+         * @param mistake Errores cometidos
+         */
+        void add(int player, long key, long finishedAt, int duration, int size, int difficulty, int hint, int mistake) {
+            if (rows == players.length) {
+                int capacity = rows * 2;
+                players = Arrays.copyOf(players, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+                finished = Arrays.copyOf(finished, capacity);
+                durations = Arrays.copyOf(durations, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+                difficulties = Arrays.copyOf(difficulties, capacity);
+                hints = Arrays.copyOf(hints, capacity);
+                mistakes = Arrays.copyOf(mistakes, capacity);
+            }
+            players[rows] = player;
+            keys[rows] = key;
+            finished[rows] = finishedAt;
+            durations[rows] = duration;
+            sizes[rows] = (byte) size;
+            difficulties[rows] = (byte) difficulty;
+            hints[rows] = (short) hint;
+            mistakes[rows] = (short) mistake;
+            rows++;
+        }
+
+        /**
+         * Escribe las columnas una detrás de otra, en el orden del segmento.
+         *
+         * @param buffer Destino
+         */
+        void writeColumns(ByteBuffer buffer) {
+            for (int i = 0; i < rows; i++) {
+                buffer.putInt(players[i]);
+            }
+            for (int i = 0; i < rows; i++) {
+                buffer.putLong(keys[i]);
+            }
+            for (int i = 0; i < rows; i++) {
+                buffer.putLong(finished[i]);
+            }
+            for (int i = 0; i < rows; i++) {
+                buffer.putInt(durations[i]);
+            }
+            buffer.put(sizes, 0, rows);
+            buffer.put(difficulties, 0, rows);
+            for (int i = 0; i < rows; i++) {
+                buffer.putShort(hints[i]);
+            }
+            for (int i = 0; i < rows; i++) {
+                buffer.putShort(mistakes[i]);
+            }
+        }
+
+        /**
+         * Arma el juego de una fila.
+         *
+         * @param row Fila
+         * @return Juego de esa fila
+         */
+        GameRecord toRecord(int row) {
+            return new GameRecord(playerNames.get(players[row]), keys[row], sizes[row], difficultyOf(difficulties[row]),
+                    durations[row], hints[row], mistakes[row], finished[row]);
+        }
+
+        /**
+         * Vacía las columnas después de escribir el segmento, conservando la capacidad.
+         */
+        void clear() {
+            rows = 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package model.stats;
+
+import model.generator.Difficulty;
+
+/**
+ * Datos de un juego terminado.
+ *
+ * @param player Nombre del jugador
+ * @param puzzleKey Huella del tablero inicial (ver {@link #puzzleKey(int[])})
+ * @param size Tamaño del tablero
+ * @param difficulty Banda de dificultad, o null si el tablero no se generó con una
+ * @param durationMillis Duración del juego en milisegundos
+ * @param hintsUsed Ayudas usadas
+ * @param mistakes Números rechazados por las reglas
+ * @param finishedAt Instante en que se terminó, en milisegundos desde 1970
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public record GameRecord(String player, long puzzleKey, int size, Difficulty difficulty,
+                         long durationMillis, int hintsUsed, int mistakes, long finishedAt) {
+
+    /**
+     * Calcula la huella de un tablero inicial (FNV-1a de 64 bits sobre las pistas).
+     * Dos juegos con las mismas pistas tienen la misma huella.
+     *
+     * @param clues Valores del tablero en orden plano (0 = vacía)
+     * @return Huella del tablero
+     */
+    public static long puzzleKey(int[] clues) {
+        long hash = 0xcbf29ce484222325L;
+        for (int value : clues) {
+            hash ^= value;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,26 @@
+package model.stats;
+
+/**
+ * Resumen de un grupo de juegos terminados (de un jugador, de una dificultad o de ambos).
+ *
+ * @param games Juegos terminados
+ * @param bestMillis Mejor tiempo en milisegundos, o 0 si no hay juegos
+ * @param averageMillis Tiempo promedio en milisegundos
+ * @param averageHints Ayudas promedio por juego
+ * @param averageMistakes Errores promedio por juego
+ * @param currentStreakDays Días seguidos con algún juego terminado, hasta hoy o ayer
+ * @param bestStreakDays Mayor racha de días seguidos
+ * @param currentCleanStreak Juegos seguidos, hasta el último, sin ayudas ni errores
+ * @param bestCleanStreak Mayor racha de juegos sin ayudas ni errores
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+public record GameStatistics(long games, long bestMillis, double averageMillis, double averageHints,
+                             double averageMistakes, int currentStreakDays, int bestStreakDays,
+                             int currentCleanStreak, int bestCleanStreak) {
+
+    /** Resumen de un grupo sin juegos */
+    public static final GameStatistics EMPTY = new GameStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0);
+}
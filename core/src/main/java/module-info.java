@@ -0,0 +1,25 @@
+/**
+ * Motor del juego Sudoku sin dependencias de JavaFX: modelo, reglas,
+ * resolvedores, generación, formatos de archivo, sesiones y métricas.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+module org.example.sudoku.core {
+    // Validación de lotes con vectores (model.batch)
+    requires jdk.incubator.vector;
+    // Los eventos de model.metrics extienden jdk.jfr.Event, así que quien los use también lo lee
+    requires transitive jdk.jfr;
+
+    exports model;
+    exports model.batch;
+    exports model.generator;
+    exports model.io;
+    exports model.metrics;
+    exports model.rules;
+    exports model.sat;
+    exports model.session;
+    exports model.solver;
+    exports model.stats;
+}
@@ -0,0 +1,218 @@
+package model.sat;
+
+import model.generator.SolutionGrids;
+import model.rules.ClassicRules;
+import model.rules.CompiledRules;
+import model.rules.DiagonalRules;
+import model.solver.BacktrackingSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara el resolvedor SAT (CDCL) con el de retroceso en tableros con una
+ * solución, sin solución y con varias soluciones.
+ *
+ * @author andres barbosa
+ * @author yoselin serna
+ * @version 1.0
+ */
+class SatSudokuSolverTest {
+
+    /** Resolvedor que se prueba */
+    private final SatSudokuSolver sat = new SatSudokuSolver();
+
+    /** Resolvedor de referencia */
+    private final BacktrackingSolver backtracking = new BacktrackingSolver();
+
+    /**
+     * Con una sola solución, los dos resolvedores deben dar la misma.
+     */
+    @Test
+    void uniqueSolutionMatchesBacktracking() {
+        Random random = new Random(11);
+        for (CompiledRules rules : variants()) {
+            int checked = 0;
+            while (checked < 20) {
+                int[] clues = blank(rules, SolutionGrids.random(rules, random), rules.getCellCount() / 2, random);
+                if (backtracking.countSolutions(rules, clues, 2) != 1) {
+                    continue;
+                }
+                int[] expected = backtracking.solve(rules, clues, () -> false);
+                assertArrayEquals(expected, sat.solve(rules, clues), Arrays.toString(clues));
+                checked++;
+            }
+        }
+    }
+
+    /**
+     * Un tablero que cumple las reglas pero no tiene solución: los dos devuelven null.
+     * En el 6x6 la fila 0 tiene 1, 2 y 3 en el primer bloque y la fila 1 tiene
+     * 4, 5 y 6 en el segundo, así que a la fila 0 no le quedan números para el segundo bloque.
+     */
+    @Test
+    void unsolvableBoardHasNoSolution() {
+        CompiledRules rules = new ClassicRules(2, 3).compile();
+        int[] clues = new int[36];
+        clues[0] = 1;
+        clues[1] = 2;
+        clues[2] = 3;
+        clues[9] = 4;
+        clues[10] = 5;
+        clues[11] = 6;
+
+        assertTrue(rules.isValid(clues));
+        assertEquals(0, backtracking.countSolutions(rules, clues, 1));
+        assertNull(backtracking.solve(rules, clues, () -> false));
+        assertNull(sat.solve(rules, clues));
+    }
+
+    /**
+     * Tableros al azar con celdas de más: los que el retroceso no puede resolver
+     * tampoco los resuelve el SAT, y los que sí resuelve dan una solución válida.
+     */
+    @Test
+    void agreesWithBacktrackingOnSolvability() {
+        Random random = new Random(23);
+        for (CompiledRules rules : variants()) {
+            int unsolvable = 0;
+            for (int i = 0; i < 200; i++) {
+                int[] clues = randomClues(rules, rules.getCellCount() / 3, random);
+                boolean solvable = backtracking.countSolutions(rules, clues, 1) > 0;
+                int[] solution = sat.solve(rules, clues);
+                assertEquals(solvable, solution != null, Arrays.toString(clues));
+                if (solution != null) {
+                    assertSolves(rules, clues, solution);
+                } else {
+                    unsolvable++;
+                }
+            }
+            assertTrue(unsolvable > 0, "Ningún tablero al azar quedó sin solución");
+        }
+    }
+
+    /**
+     * Un tablero que rompe las reglas no tiene solución para ninguno de los dos.
+     */
+    @Test
+    void invalidBoardHasNoSolution() {
+        CompiledRules rules = new ClassicRules(3, 3).compile();
+        int[] clues = new int[81];
+        clues[0] = 5;
+        clues[8] = 5;
+
+        assertNull(backtracking.solve(rules, clues, () -> false));
+        assertNull(sat.solve(rules, clues));
+    }
+
+    /**
+     * Con varias soluciones, el SAT debe dar una de las que encuentra el retroceso.
+     */
+    @Test
+    void multipleSolutionsGiveOneOfThem() {
+        Random random = new Random(37);
+        CompiledRules rules = new ClassicRules(2, 3).compile();
+        for (int i = 0; i < 20; i++) {
+            int[] clues = blank(rules, SolutionGrids.random(rules, random), 26, random);
+            List<int[]> solutions = new ArrayList<>();
+            backtracking.forEachSolution(rules, clues, 10_000, () -> false, s -> solutions.add(s.clone()));
+            assertTrue(solutions.size() > 1, Arrays.toString(clues));
+
+            int[] solution = sat.solve(rules, clues);
+            assertNotNull(solution);
+            assertSolves(rules, clues, solution);
+            assertTrue(solutions.stream().anyMatch(s -> Arrays.equals(s, solution)), Arrays.toString(solution));
+        }
+    }
+
+    /**
+     * El tablero vacío tiene muchas soluciones; los dos deben encontrar alguna.
+     */
+    @Test
+    void emptyBoardIsSolved() {
+        for (CompiledRules rules : variants()) {
+            int[] empty = new int[rules.getCellCount()];
+            assertTrue(backtracking.countSolutions(rules, empty, 2) > 1);
+            assertSolves(rules, empty, sat.solve(rules, empty));
+        }
+    }
+
+    /**
+     * Verifica que una solución esté completa, sea válida y respete las pistas.
+     *
+     * @param rules Reglas compiladas
+     * @param clues Pistas del tablero
+     * @param solution Solución a verificar
+     */
+    private static void assertSolves(CompiledRules rules, int[] clues, int[] solution) {
+        assertNotNull(solution);
+        assertTrue(rules.isComplete(solution), Arrays.toString(solution));
+        for (int cell = 0; cell < clues.length; cell++) {
+            if (clues[cell] != 0) {
+                assertEquals(clues[cell], solution[cell], "Celda " + cell);
+            }
+        }
+    }
+
+    /**
+     * Vacía celdas al azar de una solución.
+     *
+     * @param rules Reglas compiladas
+     * @param grid Solución completa; se modifica
+     * @param blanks Celdas a vaciar
+     * @param random Generador de números aleatorios
+     * @return El mismo arreglo con las celdas vacías
+     */
+    private static int[] blank(CompiledRules rules, int[] grid, int blanks, Random random) {
+        int emptied = 0;
+        while (emptied < blanks) {
+            int cell = random.nextInt(rules.getCellCount());
+            if (grid[cell] != 0) {
+                grid[cell] = 0;
+                emptied++;
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Pone números al azar que cumplen las reglas, sin garantizar que el tablero tenga solución.
+     *
+     * @param rules Reglas compiladas
+     * @param clues Número de pistas
+     * @param random Generador de números aleatorios
+     * @return Tablero en orden plano
+     */
+    private static int[] randomClues(CompiledRules rules, int clues, Random random) {
+        int[] cells = new int[rules.getCellCount()];
+        int placed = 0;
+        while (placed < clues) {
+            int cell = random.nextInt(cells.length);
+            int num = random.nextInt(rules.getSize()) + 1;
+            if (cells[cell] == 0 && rules.isValidPlacement(cells, cell, num)) {
+                cells[cell] = num;
+                placed++;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Variantes que se prueban.
+     *
+     * @return Reglas compiladas clásicas 6x6 y 9x9 y diagonales 6x6
+     */
+    private static List<CompiledRules> variants() {
+        return List.of(new ClassicRules(2, 3).compile(), new ClassicRules(3, 3).compile(),
+                new DiagonalRules(2, 3).compile());
+    }
+}